@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"squidpony","c":"Messaging.NounTrait","l":"$$$Text()"},{"p":"squidpony","c":"Messaging.NounTrait","l":"$$Text()"},{"p":"squidpony","c":"Messaging.NounTrait","l":"$Text()"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"a_constraint"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"above()"},{"p":"squidpony","c":"FakeLanguageGen","l":"accentBoth(RNG, String[], double, double)","u":"accentBoth(squidpony.squidmath.RNG,java.lang.String[],double,double)"},{"p":"squidpony","c":"FakeLanguageGen","l":"accentConsonants(RNG, String[], double)","u":"accentConsonants(squidpony.squidmath.RNG,java.lang.String[],double)"},{"p":"squidpony","c":"FakeLanguageGen","l":"accentVowels(RNG, String[], double)","u":"accentVowels(squidpony.squidmath.RNG,java.lang.String[],double)"},{"p":"squidpony.squidmath","c":"Arrangement.FastEntryIterator","l":"add(Arrangement.MapEntry)","u":"add(squidpony.squidmath.Arrangement.MapEntry)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"add(Coord)","u":"add(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Coord","l":"add(Coord)","u":"add(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"add(Coord)","u":"add(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"add(Coord)","u":"add(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"NeuralParticle","l":"add(Coord)","u":"add(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Region","l":"add(Coord)","u":"add(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"add(Coord, I, E)","u":"add(squidpony.squidmath.Coord,I,E)"},{"p":"squidpony.squidmath","c":"Coord","l":"add(double)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"add(double)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"add(double)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"add(Double)","u":"add(java.lang.Double)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"add(Double)","u":"add(java.lang.Double)"},{"p":"squidpony.squidmath","c":"Coord","l":"add(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"add(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"add(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"add(int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"add(int)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"add(int, int)","u":"add(int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.EntryIterator","l":"add(IntDoubleOrderedMap.MapEntry)","u":"add(squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.FastEntryIterator","l":"add(IntDoubleOrderedMap.MapEntry)","u":"add(squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"add(IntDoubleOrderedMap.MapEntry)","u":"add(squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"add(Integer)","u":"add(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"add(Integer)","u":"add(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"add(Integer)","u":"add(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"add(K)"},{"p":"squidpony.squidmath","c":"Arrangement.KeyIterator","l":"add(K)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"add(K)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeyIterator","l":"add(K)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"add(K)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"add(K)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"add(Map.Entry<K, V>)","u":"add(java.util.Map.Entry)"},{"p":"squidpony.squidmath","c":"OrderedMap.FastEntryIterator","l":"add(OrderedMap.MapEntry)","u":"add(squidpony.squidmath.OrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"add(ProbabilityTable<? extends T>, int)","u":"add(squidpony.squidmath.ProbabilityTable,int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"add(Room)","u":"add(squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"add(Room)","u":"add(squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"add(short)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"add(short)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"add(T, int)","u":"add(T,int)"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"add(V)"},{"p":"squidpony","c":"FakeLanguageGen","l":"addAccents(double, double)","u":"addAccents(double,double)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"addAll(Collection<? extends Coord>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"addAll(Collection<? extends Coord>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"addAll(Collection<? extends Double>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"addAll(Collection<? extends IntDoubleOrderedMap.MapEntry>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"addAll(Collection<? extends Integer>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"addAll(Collection<? extends K>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"addAll(Collection<? extends K>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"addAll(Collection<? extends K>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"addAll(Collection<? extends Map.Entry<K, V>>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"addAll(Collection<Coord>)","u":"addAll(java.util.Collection)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"addAll(Coord...)","u":"addAll(squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"addAll(CoordOrderedSet)","u":"addAll(squidpony.squidmath.CoordOrderedSet)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"addAll(int...)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"addAll(int...)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"addAll(int[])"},{"p":"squidpony.squidmath","c":"IntVLA","l":"addAll(int[], int, int)","u":"addAll(int[],int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"addAll(IntDoubleOrderedMap.DoubleCollection)","u":"addAll(squidpony.squidmath.IntDoubleOrderedMap.DoubleCollection)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"addAll(IntOrderedSet)","u":"addAll(squidpony.squidmath.IntOrderedSet)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"addAll(IntVLA)","u":"addAll(squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"addAll(IntVLA, int, int)","u":"addAll(squidpony.squidmath.IntVLA,int,int)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"addAll(short...)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"addAll(short...)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"addAll(short[], int, int)","u":"addAll(short[],int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"addAll(short[], int, int)","u":"addAll(short[],int,int)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"addAll(ShortSet)","u":"addAll(squidpony.squidmath.ShortSet)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"addAll(ShortVLA)","u":"addAll(squidpony.squidmath.ShortVLA)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"addAll(ShortVLA)","u":"addAll(squidpony.squidmath.ShortVLA)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"addAll(ShortVLA, int, int)","u":"addAll(squidpony.squidmath.ShortVLA,int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"addAll(ShortVLA, int, int)","u":"addAll(squidpony.squidmath.ShortVLA,int,int)"},{"p":"squidpony","c":"ColoredStringList","l":"addAllText(Collection<? extends IColoredString<T>>)","u":"addAllText(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"addAndMoveToFirst(K)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"addAndMoveToLast(K)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"addAt(Coord, int)","u":"addAt(squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"addAt(int, int)","u":"addAt(int,int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"addAt(int, K)","u":"addAt(int,K)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"addAt(K, int)","u":"addAt(K,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"addBoulders(int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"addBoulders(int, int)","u":"addBoulders(int,int)"},{"p":"squidpony","c":"Thesaurus","l":"addCategory(String, Collection<String>)","u":"addCategory(java.lang.String,java.util.Collection)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"addChild(Room)","u":"addChild(squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony","c":"ColoredStringList","l":"addColoredText(String, T)","u":"addColoredText(java.lang.String,T)"},{"p":"squidpony","c":"ColoredStringList","l":"addColoredTextOnNewLine(String, T)","u":"addColoredTextOnNewLine(java.lang.String,T)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"addCostRule(char, double)","u":"addCostRule(char,double)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"addCostRule(char, double, boolean)","u":"addCostRule(char,double,boolean)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"addCostRule(char, double, boolean)","u":"addCostRule(char,double,boolean)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"addCostRule(char, double, boolean)","u":"addCostRule(char,double,boolean)"},{"p":"squidpony.squidgrid","c":"Adjacency.ThinWallAdjacency","l":"addCostRule(char, double, boolean)","u":"addCostRule(char,double,boolean)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"addDoors(int, boolean)","u":"addDoors(int,boolean)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"addDoors(int, boolean)","u":"addDoors(int,boolean)"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"addDoors(int, boolean)","u":"addDoors(int,boolean)"},{"p":"squidpony","c":"ColoredStringList","l":"addEmptyLine()"},{"p":"squidpony","c":"Thesaurus","l":"addFakeWords()"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"addFloorCharacter(char)"},{"p":"squidpony.squidgrid","c":"FOV","l":"addFOVs(double[][]...)"},{"p":"squidpony.squidgrid","c":"FOV","l":"addFOVs(Iterable<double[][]>)","u":"addFOVs(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"addFractionRange(int, int, int)","u":"addFractionRange(int,int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"addFractionRange(int, int, int)","u":"addFractionRange(int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"addGrass(int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"addGrass(int, int)","u":"addGrass(int,int)"},{"p":"squidpony.squidgrid","c":"Splash","l":"addImpassableChar(char)"},{"p":"squidpony","c":"Messaging.NounTrait","l":"ADDITIONAL_GENDER"},{"p":"squidpony","c":"Thesaurus","l":"addKnownCategories()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"addLake(int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"addLake(int, char, char)","u":"addLake(int,char,char)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"addMaze(int)"},{"p":"squidpony","c":"FakeLanguageGen","l":"addModifiers(Collection<FakeLanguageGen.Modifier>)","u":"addModifiers(java.util.Collection)"},{"p":"squidpony","c":"FakeLanguageGen","l":"addModifiers(FakeLanguageGen.Modifier...)","u":"addModifiers(squidpony.FakeLanguageGen.Modifier...)"},{"p":"squidpony","c":"ColoredStringList","l":"addOnNewLine(Collection<? extends IColoredString<T>>)","u":"addOnNewLine(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"addOrGet(K)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"addPrecond(Room, Condition)","u":"addPrecond(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Condition)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"addRange(int, int)","u":"addRange(int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"addRange(int, int)","u":"addRange(int,int)"},{"p":"squidpony","c":"Thesaurus","l":"addSynonyms(Collection<String>)","u":"addSynonyms(java.util.Collection)"},{"p":"squidpony","c":"ColoredStringList","l":"addText(IColoredString<T>)","u":"addText(squidpony.panel.IColoredString)"},{"p":"squidpony","c":"ColoredStringList","l":"addText(String)","u":"addText(java.lang.String)"},{"p":"squidpony","c":"ColoredStringList","l":"addTextOnNewLine(IColoredString<T>)","u":"addTextOnNewLine(squidpony.panel.IColoredString)"},{"p":"squidpony","c":"ColoredStringList","l":"addTextOnNewLine(String)","u":"addTextOnNewLine(java.lang.String)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"addTo(Coord, int)","u":"addTo(squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"addTo(int, double)","u":"addTo(int,double)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"addTo(int, int)","u":"addTo(int,int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"addTo(long, int)","u":"addTo(long,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"addTraps(int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"addTraps(int, int)","u":"addTraps(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"addWater(int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"addWater(int, int)","u":"addWater(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"addWater(int, int)","u":"addWater(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"addWater(int, int, int)","u":"addWater(int,int,int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"adjacency"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"Adjacency()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints.Group","l":"adjacentGroups"},{"p":"squidpony","c":"MonsterGen","l":"adjectives"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"alerted"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"ALL"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"ALL_ON"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"ALL_WALL"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"ALL_WALLS"},{"p":"squidpony.squidmath","c":"RegionMap","l":"allAt(int, int)","u":"allAt(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"allCaves"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"allCorridors"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"allFloors"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"allMatching(char[][], char...)","u":"allMatching(char[][],char...)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"allOn()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"allowRoomsToBeAdjacent(int, int)","u":"allowRoomsToBeAdjacent(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"allPacked(short[])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"allPackedHilbert(short[])"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"allRooms"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"alpha"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"alpha"},{"p":"squidpony","c":"IFilter","l":"alter(float, float, float, float)","u":"alter(float,float,float,float)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"alter(int, Object, Object)","u":"alter(int,java.lang.Object,java.lang.Object)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"alter(K, K)","u":"alter(K,K)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"alter(K, K)","u":"alter(K,K)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"alter(K, K)","u":"alter(K,K)"},{"p":"squidpony.squidmath","c":"K2","l":"alterA(A, A)","u":"alterA(A,A)"},{"p":"squidpony.squidmath","c":"K2V1","l":"alterA(A, A)","u":"alterA(A,A)"},{"p":"squidpony.squidmath","c":"K2","l":"alterAAt(int, A)","u":"alterAAt(int,A)"},{"p":"squidpony.squidmath","c":"K2V1","l":"alterAAt(int, A)","u":"alterAAt(int,A)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"alterAt(int, int, Object)","u":"alterAt(int,int,java.lang.Object)"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"Alteration()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"Alteration(Pattern, String, double)","u":"%3Cinit%3E(regexodus.Pattern,java.lang.String,double)"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"Alteration(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"Alteration(String, String, double)","u":"%3Cinit%3E(java.lang.String,java.lang.String,double)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"alterations"},{"p":"squidpony.squidmath","c":"K2","l":"alterB(B, B)","u":"alterB(B,B)"},{"p":"squidpony.squidmath","c":"K2V1","l":"alterB(B, B)","u":"alterB(B,B)"},{"p":"squidpony.squidmath","c":"K2","l":"alterBAt(int, B)","u":"alterBAt(int,B)"},{"p":"squidpony.squidmath","c":"K2V1","l":"alterBAt(int, B)","u":"alterBAt(int,B)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"alterBounds(int, int)","u":"alterBounds(int,int)"},{"p":"squidpony.squidmath","c":"K2V1","l":"alterQAt(int, Q)","u":"alterQAt(int,Q)"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"analyze(int[], int, int, int, int, boolean)","u":"analyze(int[],int,int,int,int,boolean)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"analyzeMap()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"and(Condition)","u":"and(squidpony.squidgrid.mapping.locks.Condition)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"and(GreasedRegion)","u":"and(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"and(int)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"and(SparseGreasedRegion)","u":"and(squidpony.squidmath.SparseGreasedRegion)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"andNot(GreasedRegion)","u":"andNot(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"andNot(SparseGreasedRegion)","u":"andNot(squidpony.squidmath.SparseGreasedRegion)"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"andSamples(boolean[][], boolean[][])","u":"andSamples(boolean[][],boolean[][])"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"anyFreshMap"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"anySpillMap"},{"p":"squidpony.squidai","c":"Technique","l":"aoe"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"apartPacked(short[], int)","u":"apartPacked(short[],int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"apartPacked(short[], int, boolean)","u":"apartPacked(short[],int,boolean)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"apartPackedHilbert(short[], int)","u":"apartPackedHilbert(short[],int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"apartPackedHilbert(short[], int, boolean)","u":"apartPackedHilbert(short[],int,boolean)"},{"p":"squidpony.panel","c":"IColoredString","l":"append(char, T)","u":"append(char,T)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"append(char, T)","u":"append(char,T)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"append(IColoredString.Bucket<T>)","u":"append(squidpony.panel.IColoredString.Bucket)"},{"p":"squidpony.panel","c":"IColoredString","l":"append(IColoredString<T>)","u":"append(squidpony.panel.IColoredString)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"append(IColoredString<T>)","u":"append(squidpony.panel.IColoredString)"},{"p":"squidpony.panel","c":"IColoredString.Bucket","l":"append(String)","u":"append(java.lang.String)"},{"p":"squidpony.panel","c":"IColoredString","l":"append(String, T)","u":"append(java.lang.String,T)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"append(String, T)","u":"append(java.lang.String,T)"},{"p":"squidpony","c":"Messaging.BeingSubstitution","l":"appendCapitalized(String, TextBuffer)","u":"appendCapitalized(java.lang.String,regexodus.TextBuffer)"},{"p":"squidpony.panel","c":"IColoredString","l":"appendFloat(float, T)","u":"appendFloat(float,T)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"appendFloat(float, T)","u":"appendFloat(float,T)"},{"p":"squidpony.panel","c":"IColoredString","l":"appendInt(int, T)","u":"appendInt(int,T)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"appendInt(int, T)","u":"appendInt(int,T)"},{"p":"squidpony","c":"ObText","l":"appendQuoted(StringBuilder, String)","u":"appendQuoted(java.lang.StringBuilder,java.lang.String)"},{"p":"squidpony","c":"Messaging.BeingSubstitution","l":"appendSubstitution(MatchResult, TextBuffer)","u":"appendSubstitution(regexodus.MatchResult,regexodus.TextBuffer)"},{"p":"squidpony.squidai","c":"Technique","l":"apply(Coord, Coord)","u":"apply(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"applyIntensity(Room, double)","u":"applyIntensity(squidpony.squidgrid.mapping.locks.Room,double)"},{"p":"squidpony.squidmath","c":"MathExtras","l":"approxEquals(double, double, double)","u":"approxEquals(double,double,double)"},{"p":"squidpony.squidmath","c":"RNG","l":"approximateBits(int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"approximateMemoryUsage()"},{"p":"squidpony","c":"FakeLanguageGen","l":"ARABIC_ROMANIZED"},{"p":"squidpony.squidai","c":"AreaUtils","l":"AreaUtils()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CrossHash.DefaultHasher","l":"areEqual(Object, Object)","u":"areEqual(java.lang.Object,java.lang.Object)"},{"p":"squidpony.squidmath","c":"CrossHash.IHasher","l":"areEqual(Object, Object)","u":"areEqual(java.lang.Object,java.lang.Object)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"AroundCounterClockWise(int, int, Coord)","u":"%3Cinit%3E(int,int,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"AroundCounterClockWise(int, int, int, int)","u":"%3Cinit%3E(int,int,int,int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(Arrangement<? extends K>)","u":"%3Cinit%3E(squidpony.squidmath.Arrangement)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(Collection<K>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(Collection<K>, float)","u":"%3Cinit%3E(java.util.Collection,float)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(CrossHash.IHasher)","u":"%3Cinit%3E(squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(int, CrossHash.IHasher)","u":"%3Cinit%3E(int,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(int, float, CrossHash.IHasher)","u":"%3Cinit%3E(int,float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(K[])","u":"%3Cinit%3E(K[])"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(K[], CrossHash.IHasher)","u":"%3Cinit%3E(K[],squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(K[], float)","u":"%3Cinit%3E(K[],float)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(K[], float, CrossHash.IHasher)","u":"%3Cinit%3E(K[],float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(Map<? extends K, ? extends Integer>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(Map<? extends K, ? extends Integer>, CrossHash.IHasher)","u":"%3Cinit%3E(java.util.Map,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(Map<? extends K, ? extends Integer>, float)","u":"%3Cinit%3E(java.util.Map,float)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"Arrangement(Map<? extends K, ? extends Integer>, float, CrossHash.IHasher)","u":"%3Cinit%3E(java.util.Map,float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"arraySize(int, float)","u":"arraySize(int,float)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"arraySize(int, float)","u":"arraySize(int,float)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"arraySize(int, float)","u":"arraySize(int,float)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"arraySize(int, float)","u":"arraySize(int,float)"},{"p":"squidpony.squidai","c":"AreaUtils","l":"arrayToHashMap(boolean[][])"},{"p":"squidpony.squidai","c":"AreaUtils","l":"arrayToHashMap(double[][])"},{"p":"squidpony.squidai","c":"AreaUtils","l":"arrayToHashMap(double[][], double)","u":"arrayToHashMap(double[][],double)"},{"p":"squidpony","c":"ArrayTools","l":"ArrayTools()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"asChar(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"asCoords()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"asCoords()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"asEncoded()"},{"p":"squidpony.squidmath","c":"NeuralParticle","l":"asIntMap(int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"asInts()"},{"p":"squidpony.squidmath","c":"NeuralParticle","l":"asList()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"asRandom()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"asRandom()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"asRandom()"},{"p":"squidpony.squidmath","c":"RNG","l":"asRandom()"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"AStarSearch()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"AStarSearch(double[][], AStarSearch.SearchType)","u":"%3Cinit%3E(double[][],squidpony.squidmath.AStarSearch.SearchType)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"asTightEncoded()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"atan2Cache"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"atFraction(double)"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"atlas"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"atLeastPacked(int, short[]...)","u":"atLeastPacked(int,short[]...)"},{"p":"squidpony.squidmath","c":"Coord","l":"average(Coord)","u":"average(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"awaitCache()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"awaitRefresh(char[][])"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"b_constraint"},{"p":"squidpony","c":"StringKit","l":"b64DecodeByte(char[], int)","u":"b64DecodeByte(char[],int)"},{"p":"squidpony","c":"StringKit","l":"b64DecodeChar(char[], int)","u":"b64DecodeChar(char[],int)"},{"p":"squidpony","c":"StringKit","l":"b64DecodeDouble(char[], int)","u":"b64DecodeDouble(char[],int)"},{"p":"squidpony","c":"StringKit","l":"b64DecodeFloat(char[], int)","u":"b64DecodeFloat(char[],int)"},{"p":"squidpony","c":"StringKit","l":"b64DecodeInt(char[], int)","u":"b64DecodeInt(char[],int)"},{"p":"squidpony","c":"StringKit","l":"b64DecodeLong(char[], int)","u":"b64DecodeLong(char[],int)"},{"p":"squidpony","c":"StringKit","l":"b64DecodeShort(char[], int)","u":"b64DecodeShort(char[],int)"},{"p":"squidpony","c":"StringKit","l":"b64Encode(byte, int, char[])","u":"b64Encode(byte,int,char[])"},{"p":"squidpony","c":"StringKit","l":"b64Encode(char, int, char[])","u":"b64Encode(char,int,char[])"},{"p":"squidpony","c":"StringKit","l":"b64Encode(double, int, char[])","u":"b64Encode(double,int,char[])"},{"p":"squidpony","c":"StringKit","l":"b64Encode(float, int, char[])","u":"b64Encode(float,int,char[])"},{"p":"squidpony","c":"StringKit","l":"b64Encode(int, int, char[])","u":"b64Encode(int,int,char[])"},{"p":"squidpony","c":"StringKit","l":"b64Encode(long, int, char[])","u":"b64Encode(long,int,char[])"},{"p":"squidpony","c":"StringKit","l":"b64Encode(short, int, char[])","u":"b64Encode(short,int,char[])"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"back(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"back(int)"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"back(int)"},{"p":"squidpony","c":"ObText","l":"bare"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"base"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"basic"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"BasicAdjacency(int, int, DijkstraMap.Measurement)","u":"%3Cinit%3E(int,int,squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"basicPoints(int, int, RNG)","u":"basicPoints(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"BatchFOV(double[][])","u":"%3Cinit%3E(double[][])"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"BatchFOV(double[][], Radius, ForkJoinPool)","u":"%3Cinit%3E(double[][],squidpony.squidgrid.Radius,java.util.concurrent.ForkJoinPool)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"BATHTUB_TRUNCATED"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"BEACH_LEVEL"},{"p":"squidpony.squidai","c":"BeamAOE","l":"BeamAOE(Coord, Coord)","u":"%3Cinit%3E(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"BeamAOE(Coord, Coord, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"BeamAOE(Coord, Coord, int, Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord,squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"BeamAOE(Coord, double, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,double,int)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"BeamAOE(Coord, double, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,double,int,int)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"BeamAOE(Coord, double, int, int, Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord,double,int,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"before"},{"p":"squidpony","c":"Messaging.BeingSubstitution","l":"BeingSubstitution()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"Messaging.BeingSubstitution","l":"BeingSubstitution(String, Messaging.NounTrait, boolean)","u":"%3Cinit%3E(java.lang.String,squidpony.Messaging.NounTrait,boolean)"},{"p":"squidpony.squidmath","c":"Dice","l":"bestOf(int, int, int)","u":"bestOf(int,int,int)"},{"p":"squidpony.squidmath","c":"Dice","l":"bestOf(int, int, String)","u":"bestOf(int,int,java.lang.String)"},{"p":"squidpony.squidmath","c":"Dice","l":"bestOf(int, List<Integer>)","u":"bestOf(int,java.util.List)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"beta"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"beta"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"between(double, double)","u":"between(double,double)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"between(double, double)","u":"between(double,double)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"between(double, double)","u":"between(double,double)"},{"p":"squidpony.squidmath","c":"RNG","l":"between(double, double)","u":"between(double,double)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"between(int, int)","u":"between(int,int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"between(int, int)","u":"between(int,int)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"between(int, int)","u":"between(int,int)"},{"p":"squidpony.squidmath","c":"RNG","l":"between(int, int)","u":"between(int,int)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"between(long, long)","u":"between(long,long)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"between(long, long)","u":"between(long,long)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"between(long, long)","u":"between(long,long)"},{"p":"squidpony.squidmath","c":"RNG","l":"between(long, long)","u":"between(long,long)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"betweenWeighted(int, int, int)","u":"betweenWeighted(int,int,int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"betweenWeighted(int, int, int)","u":"betweenWeighted(int,int,int)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"betweenWeighted(int, int, int)","u":"betweenWeighted(int,int,int)"},{"p":"squidpony.squidmath","c":"RNG","l":"betweenWeighted(int, int, int)","u":"betweenWeighted(int,int,int)"},{"p":"squidpony.squidgrid","c":"BevelFOV","l":"BevelFOV()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"BevelFOV","l":"BevelFOV(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"bg"},{"p":"squidpony.panel","c":"ICombinedPanel.What","l":"BG"},{"p":"squidpony.panel","c":"ICombinedPanel.What","l":"BG_AND_FG"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedBetween(double, double, double)","u":"biasedBetween(double,double,double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedBetween(double, int, int)","u":"biasedBetween(double,int,int)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedBetween(double, long, long)","u":"biasedBetween(double,long,long)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedBetween(String, double, double)","u":"biasedBetween(java.lang.String,double,double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedBetween(String, int, int)","u":"biasedBetween(java.lang.String,int,int)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedBetween(String, long, long)","u":"biasedBetween(java.lang.String,long,long)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedBoolean(double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedBoolean(String)","u":"biasedBoolean(java.lang.String)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedDouble(double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedDouble(double, double)","u":"biasedDouble(double,double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedDouble(String)","u":"biasedDouble(java.lang.String)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedDouble(String, double)","u":"biasedDouble(java.lang.String,double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedFloat(double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedFloat(double, float)","u":"biasedFloat(double,float)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedFloat(String)","u":"biasedFloat(java.lang.String)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedFloat(String, float)","u":"biasedFloat(java.lang.String,float)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedInt(double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedInt(double, int)","u":"biasedInt(double,int)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedInt(String)","u":"biasedInt(java.lang.String)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedInt(String, int)","u":"biasedInt(java.lang.String,int)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedLong(double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedLong(double, long)","u":"biasedLong(double,long)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedLong(String)","u":"biasedLong(java.lang.String)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"biasedLong(String, long)","u":"biasedLong(java.lang.String,long)"},{"p":"squidpony.squidmath","c":"MathExtras","l":"bigFactorial(int)"},{"p":"squidpony","c":"StringKit","l":"bin(byte)"},{"p":"squidpony","c":"StringKit","l":"bin(char)"},{"p":"squidpony","c":"StringKit","l":"bin(int)"},{"p":"squidpony","c":"StringKit","l":"bin(long)"},{"p":"squidpony","c":"StringKit","l":"bin(short)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"bitPermute(long)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"bitSum(GreasedRegion...)","u":"bitSum(squidpony.squidmath.GreasedRegion...)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"BlastAOE(Coord, int, Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"BlastAOE(Coord, int, Radius, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius,int,int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"blockingRule"},{"p":"squidpony.squidmath","c":"CrossHash","l":"booleanHasher"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"border(List<Coord>, List<Coord>)","u":"border(java.util.List,java.util.List)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"BOSS"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"bossRoomLocked"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"bottom()"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"bottomDoors"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"bottomLeft"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"BottomLeftToTopRight(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"boulders"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator.FillEffect","l":"BOULDERS"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator.FillEffect","l":"BOULDERS"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"bounds"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"bounds(short[])"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator.CarverType","l":"BOX"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator.CarverType","l":"BOX_WALLED"},{"p":"squidpony.squidgrid","c":"LOS","l":"BRESENHAM"},{"p":"squidpony.panel","c":"IColoredString.Bucket","l":"Bucket(String, T)","u":"%3Cinit%3E(java.lang.String,T)"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"buildAll()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"BurstAOE(Coord, int, Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"BurstAOE(Coord, int, Radius, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius,int,int)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"byteHasher"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"c_constraint"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"cache"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"CACHE_SIZE"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"cacheAll()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"cacheEntry(int)"},{"p":"squidpony","c":"LanguageCipher","l":"cacheLevel"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"cacheLevel"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"cacheSize()"},{"p":"squidpony.squidai","c":"ZOI","l":"calculate()"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"calculateFOV(Coord[], double[], BatchFOV.Combine, double[][])","u":"calculateFOV(squidpony.squidmath.Coord[],double[],squidpony.squidgrid.BatchFOV.Combine,double[][])"},{"p":"squidpony.squidgrid","c":"FOV","l":"calculateFOV(double[][], double[][], int, int)","u":"calculateFOV(double[][],double[][],int,int)"},{"p":"squidpony.squidgrid","c":"BevelFOV","l":"calculateFOV(double[][], int, int)","u":"calculateFOV(double[][],int,int)"},{"p":"squidpony.squidgrid","c":"FOV","l":"calculateFOV(double[][], int, int)","u":"calculateFOV(double[][],int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"calculateFOV(double[][], int, int)","u":"calculateFOV(double[][],int,int)"},{"p":"squidpony.squidgrid","c":"BevelFOV","l":"calculateFOV(double[][], int, int, double)","u":"calculateFOV(double[][],int,int,double)"},{"p":"squidpony.squidgrid","c":"FOV","l":"calculateFOV(double[][], int, int, double)","u":"calculateFOV(double[][],int,int,double)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"calculateFOV(double[][], int, int, double)","u":"calculateFOV(double[][],int,int,double)"},{"p":"squidpony.squidgrid","c":"BevelFOV","l":"calculateFOV(double[][], int, int, double, Radius)","u":"calculateFOV(double[][],int,int,double,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid","c":"FOV","l":"calculateFOV(double[][], int, int, double, Radius)","u":"calculateFOV(double[][],int,int,double,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"calculateFOV(double[][], int, int, double, Radius)","u":"calculateFOV(double[][],int,int,double,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid","c":"BevelFOV","l":"calculateFOV(double[][], int, int, double, Radius, double, double)","u":"calculateFOV(double[][],int,int,double,squidpony.squidgrid.Radius,double,double)"},{"p":"squidpony.squidgrid","c":"FOV","l":"calculateFOV(double[][], int, int, double, Radius, double, double)","u":"calculateFOV(double[][],int,int,double,squidpony.squidgrid.Radius,double,double)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"calculateFOV(double[][], int, int, double, Radius, double, double)","u":"calculateFOV(double[][],int,int,double,squidpony.squidgrid.Radius,double,double)"},{"p":"squidpony.squidgrid","c":"FOV","l":"calculateFOV(double[][], int, int, double, Radius, double[])","u":"calculateFOV(double[][],int,int,double,squidpony.squidgrid.Radius,double[])"},{"p":"squidpony.squidgrid","c":"FOV","l":"calculateFOV(double[][], int, int, double, Radius, float[])","u":"calculateFOV(double[][],int,int,double,squidpony.squidgrid.Radius,float[])"},{"p":"squidpony.squidgrid","c":"FOV","l":"calculateFOV(double[][], int, int, double, Radius, GreasedRegion)","u":"calculateFOV(double[][],int,int,double,squidpony.squidgrid.Radius,squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidgrid","c":"RegionFOV","l":"calculateFOV(GreasedRegion, int, int)","u":"calculateFOV(squidpony.squidmath.GreasedRegion,int,int)"},{"p":"squidpony.squidgrid","c":"RegionFOV","l":"calculateFOV(GreasedRegion, int, int, double)","u":"calculateFOV(squidpony.squidmath.GreasedRegion,int,int,double)"},{"p":"squidpony.squidgrid","c":"RegionFOV","l":"calculateFOV(GreasedRegion, int, int, double, Radius, GreasedRegion)","u":"calculateFOV(squidpony.squidmath.GreasedRegion,int,int,double,squidpony.squidgrid.Radius,squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"calculateFOV(Map<Coord, Integer>, BatchFOV.Combine)","u":"calculateFOV(java.util.Map,squidpony.squidgrid.BatchFOV.Combine)"},{"p":"squidpony.squidgrid","c":"RegionFOV","l":"calculateLOS(GreasedRegion, int, int, GreasedRegion)","u":"calculateLOS(squidpony.squidmath.GreasedRegion,int,int,squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"calculateLOS(int, int, int, int)","u":"calculateLOS(int,int,int,int)"},{"p":"squidpony.squidgrid","c":"BevelFOV","l":"calculateLOSMap(double[][], int, int)","u":"calculateLOSMap(double[][],int,int)"},{"p":"squidpony.squidgrid","c":"FOV","l":"calculateLOSMap(double[][], int, int)","u":"calculateLOSMap(double[][],int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"calculatePackedLOS(int, int)","u":"calculatePackedLOS(int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"calculatePackedSlopeShadowFOV(int, int)","u":"calculatePackedSlopeShadowFOV(int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"calculatePackedWaveFOV(int, int)","u":"calculatePackedWaveFOV(int,int)"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"calculateVisible(Coord[], double[], GreasedRegion)","u":"calculateVisible(squidpony.squidmath.Coord[],double[],squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidgrid","c":"FOVCache.FOVUnit","l":"call()"},{"p":"squidpony.squidgrid","c":"FOVCache.LOSUnit","l":"call()"},{"p":"squidpony.squidgrid","c":"FOVCache.SymmetryUnit","l":"call()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"canSee(Coord, Coord)","u":"canSee(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"canSee(int, int, int, int)","u":"canSee(int,int,int,int)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"capacity"},{"p":"squidpony.squidgrid","c":"Direction","l":"CARDINALS"},{"p":"squidpony.squidgrid","c":"Direction","l":"CARDINALS_CLOCKWISE"},{"p":"squidpony.squidgrid","c":"Direction","l":"CARDINALS_COUNTERCLOCKWISE"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"carvers"},{"p":"squidpony","c":"Thesaurus","l":"categories"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"category"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"cave"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator.CarverType","l":"CAVE"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"CAVE"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"CAVE_FLOOR"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"CAVE_WALL"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"CAVE_WALL_CHAOTIC"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"CAVE_WALL_EXPAND"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"CAVE_WALL_NORMAL"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"CAVE_WALL_RETRACT"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"caveFX"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"caves"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"caves"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"CAVES_LIMIT_CONNECTIVITY"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"CAVES_TINY_CORRIDORS"},{"p":"squidpony.tileset","c":"CavesLimitConnectivity","l":"CavesLimitConnectivity()","u":"%3Cinit%3E()"},{"p":"squidpony.tileset","c":"CavesTinyCorridors","l":"CavesTinyCorridors()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"FOV","l":"ccw"},{"p":"squidpony.squidgrid","c":"FOV","l":"ccw_full"},{"p":"squidpony.panel","c":"ISquidPanel","l":"cellHeight()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"cells(Rectangle)","u":"cells(squidpony.squidgrid.mapping.Rectangle)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"cellsList(Rectangle)","u":"cellsList(squidpony.squidgrid.mapping.Rectangle)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"cellWidth()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"center"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"center(Rectangle)","u":"center(squidpony.squidgrid.mapping.Rectangle)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"CenteredSquare(int, int, Coord, int)","u":"%3Cinit%3E(int,int,squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"CenteredSquare(int, int, int, int, int)","u":"%3Cinit%3E(int,int,int,int,int)"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"chance"},{"p":"squidpony.squidmath","c":"ChaosRNG","l":"ChaosRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CrossHash","l":"char2DHasher"},{"p":"squidpony.squidmath","c":"CrossHash","l":"charHasher"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"Chariot()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"Chariot(CharSequence)","u":"%3Cinit%3E(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"Chariot(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"Chariot(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"squidpony","c":"ArrayTools","l":"charSpan(char, char)","u":"charSpan(char,char)"},{"p":"squidpony","c":"GwtCompatibility","l":"charSpan(char, char)","u":"charSpan(char,char)"},{"p":"squidpony.squidai","c":"DijkstraMap.Measurement","l":"CHEBYSHEV"},{"p":"squidpony.squidgrid","c":"SoundMap.Measurement","l":"CHEBYSHEV"},{"p":"squidpony.squidgrid","c":"Spill.Measurement","l":"CHEBYSHEV"},{"p":"squidpony.squidmath","c":"AStarSearch.SearchType","l":"CHEBYSHEV"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"checkAcceptable()"},{"p":"squidpony","c":"FakeLanguageGen","l":"checkAll(CharSequence, Pattern[])","u":"checkAll(java.lang.CharSequence,regexodus.Pattern[])"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"checkConnected()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"checkConnected()"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"chess"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"chi"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"chi"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"children"},{"p":"squidpony","c":"ObText.ItemIterator","l":"children()"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"Chimera(String, MonsterGen.Chimera)","u":"%3Cinit%3E(java.lang.String,squidpony.MonsterGen.Chimera)"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"Chimera(String, String, Collection<String>, Collection<String>, Collection<String>, Collection<String>, Collection<String>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.util.Collection,java.util.Collection,java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"Chimera(String, String, String...)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String...)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"choice"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"chooseFreeEdge(Room, int)","u":"chooseFreeEdge(squidpony.squidgrid.mapping.locks.Room,int)"},{"p":"squidpony.squidgrid.mapping","c":"GrowingTreeMazeGenerator.ChoosingMethod","l":"chooseIndex(int)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"chooseRoomWithFreeEdge(Collection<Room>, int)","u":"chooseRoomWithFreeEdge(java.util.Collection,int)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"CHUNK"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"chunkCount()"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"chunks"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"chunkX"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"chunkY"},{"p":"squidpony","c":"LanguageCipher","l":"cipher(CharSequence)","u":"cipher(java.lang.CharSequence)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"cipher(String)","u":"cipher(java.lang.String)"},{"p":"squidpony.squidgrid","c":"Radius","l":"CIRCLE"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"circle(Coord, int, int, int)","u":"circle(squidpony.squidmath.Coord,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"circle(int, int, int, List<Coord>)","u":"circle(int,int,int,java.util.List)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"circlePositionIterator(int, int, int)","u":"circlePositionIterator(int,int,int)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"circleSection(int, int, int)","u":"circleSection(int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"ClassicRogueMapGenerator","l":"ClassicRogueMapGenerator(int, int, int, int, int, int, int, int)","u":"%3Cinit%3E(int,int,int,int,int,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"ClassicRogueMapGenerator","l":"ClassicRogueMapGenerator(int, int, int, int, int, int, int, int, RNG)","u":"%3Cinit%3E(int,int,int,int,int,int,int,int,squidpony.squidmath.RNG)"},{"p":"squidpony","c":"FakeLanguageGen","l":"clean"},{"p":"squidpony.panel","c":"IColoredString","l":"clear()"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"clear()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"clear()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"clear()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"clear()"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"clear()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueCollection","l":"clear()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"clear()"},{"p":"squidpony.squidmath","c":"IntDoubleHeap","l":"clear()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"clear()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"clear()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"clear()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"clear()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"clear()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"clear()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"clear()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"clear()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"clear()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"clear()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"clear()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"clear()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueCollection","l":"clear()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"clear()"},{"p":"squidpony.squidmath","c":"ShortSet","l":"clear()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"clear()"},{"p":"squidpony.squidmath","c":"ShortSet","l":"clear(int)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"clear(int, int)","u":"clear(int,int)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"clearCache()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"clearEffects()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"clearEffects()"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"clearGoals()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"clearGoals()"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"clearGoals()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"clearGradientCache()"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"clearSounds()"},{"p":"squidpony.squidgrid","c":"Direction","l":"CLOCKWISE"},{"p":"squidpony.squidgrid","c":"Direction","l":"clockwise()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"clone()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"clone()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"clone()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"clone()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"clone()"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"clone(IColoredString<T>)","u":"clone(squidpony.panel.IColoredString)"},{"p":"squidpony","c":"GwtCompatibility","l":"cloneCoords(Coord[])","u":"cloneCoords(squidpony.squidmath.Coord[])"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"CLOSED_DOOR"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"closeDoors(char[][])"},{"p":"squidpony.panel","c":"IMarkup","l":"closeMarkup()"},{"p":"squidpony.panel","c":"IMarkup.StringMarkup","l":"closeMarkup()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"closestCity(Coord)","u":"closestCity(squidpony.squidmath.Coord)"},{"p":"squidpony","c":"FakeLanguageGen","l":"closingConsonants"},{"p":"squidpony","c":"FakeLanguageGen","l":"closingSyllables"},{"p":"squidpony.squidai","c":"CloudAOE","l":"CloudAOE(Coord, int, Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"CloudAOE(Coord, int, Radius, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius,int,int)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"CloudAOE(Coord, int, Radius, long)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius,long)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"CloudAOE(Coord, int, Radius, long, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius,long,int,int)"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"clusterSize"},{"p":"squidpony.panel","c":"IColoredString.Bucket","l":"color"},{"p":"squidpony.panel","c":"IColoredString","l":"colorAt(int)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"colorAt(int)"},{"p":"squidpony","c":"ColoredStringList","l":"ColoredStringList()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"colorIndex()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"colorMap"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"ColorMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"columns"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"CombinationGenerator(Collection<T>, int, T[])","u":"%3Cinit%3E(java.util.Collection,int,T[])"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"CombinationGenerator(T[], int)","u":"%3Cinit%3E(T[],int)"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"COMMON_USA_FEMALE_NAMES"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"COMMON_USA_LAST_NAMES"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"COMMON_USA_MALE_NAMES"},{"p":"squidpony.squidmath","c":"Arrangement","l":"comparator()"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"comparator()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"comparator()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"comparator()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"comparator()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"comparator()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"comparator()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"comparator()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"comparator()"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"compareTo(MapModule)","u":"compareTo(squidpony.squidgrid.mapping.MapModule)"},{"p":"squidpony.squidmath","c":"SquidID","l":"compareTo(SquidID)","u":"compareTo(squidpony.squidmath.SquidID)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"complete"},{"p":"squidpony","c":"MonsterGen","l":"components"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"composite(int, int, int, int)","u":"composite(int,int,int,int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"composite(int, int, int, int)","u":"composite(int,int,int,int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"composite(int, int, int, int)","u":"composite(int,int,int,int)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"computeIntensity(LayoutGenerator.KeyLevelRoomMapping)","u":"computeIntensity(squidpony.squidgrid.mapping.locks.generators.LayoutGenerator.KeyLevelRoomMapping)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"Condition()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"Condition(Condition)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.locks.Condition)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"Condition(Condition.SwitchState)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.locks.Condition.SwitchState)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"Condition(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"ConeAOE(Coord, Coord, double, Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord,squidpony.squidmath.Coord,double,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"ConeAOE(Coord, int, double, double, Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,double,double,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tileset","l":"config"},{"p":"squidpony.squidgrid.mapping.styled","c":"Config","l":"Config()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"connections"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"connections"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"constraints"},{"p":"squidpony","c":"StringKit","l":"contains(CharSequence, char[])","u":"contains(java.lang.CharSequence,char[])"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"contains(Coord)","u":"contains(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"contains(Coord)","u":"contains(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"contains(Coord)","u":"contains(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"contains(Coord)","u":"contains(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"contains(Coord)","u":"contains(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.zone","c":"ListZone","l":"contains(Coord)","u":"contains(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.zone","c":"Zone","l":"contains(Coord)","u":"contains(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.zone","c":"Zone.Skeleton","l":"contains(Coord)","u":"contains(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"contains(double)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"contains(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"contains(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"contains(int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"contains(int)"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidgrid.zone","c":"ListZone","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidgrid.zone","c":"Zone","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"contains(int, int)","u":"contains(int,int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"contains(int, Object)","u":"contains(int,java.lang.Object)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"contains(Iterable<? extends Rectangle>, Coord)","u":"contains(java.lang.Iterable,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"Arrangement.ValueCollection","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueCollection","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"contains(Object)","u":"contains(java.lang.Object)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"contains(Rectangle, Coord)","u":"contains(squidpony.squidgrid.mapping.Rectangle,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"contains(Rectangle, int, int)","u":"contains(squidpony.squidgrid.mapping.Rectangle,int,int)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"contains(short)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"contains(short)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"contains(String)","u":"contains(java.lang.String)"},{"p":"squidpony.squidmath","c":"K2","l":"containsA(A)"},{"p":"squidpony.squidmath","c":"K2V1","l":"containsA(A)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"containsAll(Collection<?>)","u":"containsAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"containsAll(Collection<?>)","u":"containsAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"containsAll(Collection<?>)","u":"containsAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"containsAll(Collection<?>)","u":"containsAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"containsAll(Collection<?>)","u":"containsAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"containsAll(Collection<?>)","u":"containsAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"containsAll(Collection<?>)","u":"containsAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"containsAll(Collection<?>)","u":"containsAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"containsAll(Collection<?>)","u":"containsAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"containsAll(IntDoubleOrderedMap.DoubleCollection)","u":"containsAll(squidpony.squidmath.IntDoubleOrderedMap.DoubleCollection)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"containsAny(Rectangle, Collection<Coord>)","u":"containsAny(squidpony.squidgrid.mapping.Rectangle,java.util.Collection)"},{"p":"squidpony.squidmath","c":"K2","l":"containsB(B)"},{"p":"squidpony.squidmath","c":"K2V1","l":"containsB(B)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"containsHilbert(int)"},{"p":"squidpony.squidmath","c":"K2","l":"containsIndex(int)"},{"p":"squidpony.squidmath","c":"K2V1","l":"containsIndex(int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"containsIndex(int)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"containsKey(Coord)","u":"containsKey(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"containsKey(Coord)","u":"containsKey(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"containsKey(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"containsKey(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"containsKey(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"containsKey(long)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"containsKey(Object)","u":"containsKey(java.lang.Object)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"containsKey(Object)","u":"containsKey(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"containsKey(Object)","u":"containsKey(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"containsKey(Object)","u":"containsKey(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"containsNull"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"containsNull"},{"p":"squidpony.squidmath","c":"Arrangement","l":"containsNullKey"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"containsNullKey"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"containsNullKey"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"containsNullKey"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"containsNullKey"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"containsNullKey"},{"p":"squidpony","c":"StringKit","l":"containsPart(CharSequence, char[])","u":"containsPart(java.lang.CharSequence,char[])"},{"p":"squidpony","c":"StringKit","l":"containsPart(CharSequence, char[], CharSequence, CharSequence)","u":"containsPart(java.lang.CharSequence,char[],java.lang.CharSequence,java.lang.CharSequence)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"containsPosition(Object)","u":"containsPosition(java.lang.Object)"},{"p":"squidpony.squidmath","c":"K2V1","l":"containsQ(Q)"},{"p":"squidpony.squidmath","c":"RegionMap","l":"containsRegion(short[])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"containsValue(double)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"containsValue(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"containsValue(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"containsValue(int)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"containsValue(Object)","u":"containsValue(java.lang.Object)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"containsValue(Object)","u":"containsValue(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"containsValue(Object)","u":"containsValue(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"containsValue(Object)","u":"containsValue(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"containsValue(V)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"contentEquals(ProbabilityTable<? extends T>)","u":"contentEquals(squidpony.squidmath.ProbabilityTable)"},{"p":"squidpony.squidmath","c":"Elias.Context","l":"Context()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"Elias.Context","l":"Context(List<Coord>, float[][], int, int, double)","u":"%3Cinit%3E(java.util.List,float[][],int,int,double)"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"convertBytesToInt(byte[], int)","u":"convertBytesToInt(byte[],int)"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"convertBytesToInts(byte[])"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"convertCharToInt(char[][])"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"convertIntToChar(int[], int, int)","u":"convertIntToChar(int[],int,int)"},{"p":"squidpony.squidmath","c":"Coord","l":"Coord()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"Coord","l":"Coord(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidmath","c":"Coord3D","l":"Coord3D(int, int, int)","u":"%3Cinit%3E(int,int,int)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"coordAt(int)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"coordAt(int)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"coordAt(int)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"CoordDouble()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"CoordDouble(Coord)","u":"%3Cinit%3E(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"CoordDouble(CoordDouble)","u":"%3Cinit%3E(squidpony.squidmath.CoordDouble)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"CoordDouble(double, double)","u":"%3Cinit%3E(double,double)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"CoordIntOrderedMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"CoordIntOrderedMap(CoordIntOrderedMap)","u":"%3Cinit%3E(squidpony.squidmath.CoordIntOrderedMap)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"CoordIntOrderedMap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"CoordIntOrderedMap(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"CoordObjectOrderedMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"CoordObjectOrderedMap(CoordObjectOrderedMap<? extends V>)","u":"%3Cinit%3E(squidpony.squidmath.CoordObjectOrderedMap)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"CoordObjectOrderedMap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"CoordObjectOrderedMap(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"CoordOrderedSet()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"CoordOrderedSet(Collection<? extends Coord>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"CoordOrderedSet(CoordOrderedSet)","u":"%3Cinit%3E(squidpony.squidmath.CoordOrderedSet)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"CoordOrderedSet(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"CoordOrderedSet(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"CoordPackerZone(short[])","u":"%3Cinit%3E(short[])"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints.Group","l":"coords"},{"p":"squidpony.squidgrid.zone","c":"ListZone","l":"coords"},{"p":"squidpony.squidmath","c":"Region","l":"coords"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"coordsAsArray()"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"coordsAsArray()"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"coordToHilbert(Coord)","u":"coordToHilbert(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"coordToMoore(Coord)","u":"coordToMoore(squidpony.squidmath.Coord)"},{"p":"squidpony","c":"FakeLanguageGen","l":"copy()"},{"p":"squidpony.squidmath","c":"ChaosRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"copy()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"copy()"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"LFSR","l":"copy()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"copy()"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"RandomnessSource","l":"copy()"},{"p":"squidpony.squidmath","c":"RNG","l":"copy()"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"copy()"},{"p":"squidpony.squidmath","c":"StatefulRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"copy()"},{"p":"squidpony.squidmath","c":"XorRNG","l":"copy()"},{"p":"squidpony","c":"ArrayTools","l":"copy(boolean[][])"},{"p":"squidpony","c":"ArrayTools","l":"copy(char[][])"},{"p":"squidpony","c":"ArrayTools","l":"copy(double[][])"},{"p":"squidpony","c":"ArrayTools","l":"copy(int[][])"},{"p":"squidpony","c":"GwtCompatibility","l":"copy2D(boolean[][])"},{"p":"squidpony","c":"GwtCompatibility","l":"copy2D(char[][])"},{"p":"squidpony","c":"GwtCompatibility","l":"copy2D(double[][])"},{"p":"squidpony","c":"GwtCompatibility","l":"copy2D(int[][])"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"copyCache(IColorCenter.Skeleton<T>)","u":"copyCache(squidpony.IColorCenter.Skeleton)"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"CORNER_CAVES"},{"p":"squidpony.tileset","c":"CornerCaves","l":"CornerCaves()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"CORRIDOR"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"CORRIDOR_FLOOR"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"CORRIDOR_WALL"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"CORRIDOR_WALL_CHAOTIC"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"CORRIDOR_WALL_EXPAND"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"CORRIDOR_WALL_NORMAL"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"CORRIDOR_WALL_RETRACT"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"corridorFX"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"corridors"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"costMap"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"costMap"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"costMap"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"costRules"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"count"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"count()"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"count()"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"count(short[])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"count(short[], boolean)","u":"count(short[],boolean)"},{"p":"squidpony","c":"StringKit","l":"count(String, String)","u":"count(java.lang.String,java.lang.String)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"countAtLeast(int, short[]...)","u":"countAtLeast(int,short[]...)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"countCells(char[][], char)","u":"countCells(char[][],char)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"CountConstraints(int, int, int)","u":"%3Cinit%3E(int,int,int)"},{"p":"squidpony.squidgrid","c":"Direction","l":"COUNTERCLOCKWISE"},{"p":"squidpony.squidgrid","c":"Direction","l":"counterClockwise()"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"covered(short[])"},{"p":"squidpony","c":"ColoredStringList","l":"create()"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"create()"},{"p":"squidpony.squidgrid.mapping","c":"ClassicRogueMapGenerator","l":"create()"},{"p":"squidpony.squidgrid.mapping","c":"DividedMazeGenerator","l":"create()"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"create()"},{"p":"squidpony.squidgrid.mapping","c":"GrowingTreeMazeGenerator","l":"create(GrowingTreeMazeGenerator.ChoosingMethod)","u":"create(squidpony.squidgrid.mapping.GrowingTreeMazeGenerator.ChoosingMethod)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"create(int, int, int, int)","u":"create(int,int,int,int)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"create(String)","u":"create(java.lang.String)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"create(String, T)","u":"create(java.lang.String,T)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"createMany(int)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"createMany(int, long)","u":"createMany(int,long)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"createMany(int, long[])","u":"createMany(int,long[])"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"createMany(int, String)","u":"createMany(int,java.lang.String)"},{"p":"squidpony.squidmath","c":"NeuralParticle","l":"createPoint()"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"crossConnect(int, int, Map<Coord, List<Coord>>)","u":"crossConnect(int,int,java.util.Map)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"CrossHash()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"Radius","l":"CUBE"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"CustomDijkstraMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"CustomDijkstraMap(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"CustomDijkstraMap(char[][], Adjacency)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Adjacency)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"CustomDijkstraMap(char[][], Adjacency, RNG)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Adjacency,squidpony.squidmath.RNG)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"CustomDijkstraMap(char[][], char)","u":"%3Cinit%3E(char[][],char)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"CustomDijkstraMap(char[][], RNG)","u":"%3Cinit%3E(char[][],squidpony.squidmath.RNG)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"CustomDijkstraMap(double[], Adjacency)","u":"%3Cinit%3E(double[],squidpony.squidgrid.Adjacency)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"CustomDijkstraMap(double[], int, int)","u":"%3Cinit%3E(double[],int,int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"CustomDijkstraMap(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"RNG.CustomRandom","l":"CustomRandom()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"RNG.CustomRandom","l":"CustomRandom(RandomnessSource)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"cutShort"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"cutShort"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"d_constraint"},{"p":"squidpony","c":"DamerauLevenshteinAlgorithm","l":"DamerauLevenshteinAlgorithm(int, int, int, int)","u":"%3Cinit%3E(int,int,int,int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"DARK"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DARK"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"DARK"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"data"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"data"},{"p":"squidpony.squidgrid","c":"LOS","l":"DDA"},{"p":"squidpony.squidmath","c":"DDALine","l":"DDALine()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"debugPrint(char[][])"},{"p":"squidpony.squidmath","c":"Region","l":"debugPrint(int, int)","u":"debugPrint(int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"decay"},{"p":"squidpony","c":"LanguageCipher","l":"decipher(String, Map<String, String>)","u":"decipher(java.lang.String,java.util.Map)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"decipher(String, Map<String, String>)","u":"decipher(java.lang.String,java.util.Map)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"DeckRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"DeckRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"DeckRNG(RandomnessSource)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"DeckRNG(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"decode()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"decode(int)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"decode(int)"},{"p":"squidpony.squidmath","c":"Coord","l":"decode(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"decodeASCII(String)","u":"decodeASCII(java.lang.String)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"decodeBraille(String)","u":"decodeBraille(java.lang.String)"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"decodePermutation(BigInteger, int)","u":"decodePermutation(java.math.BigInteger,int)"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"decodePermutation(BigInteger, int, int)","u":"decodePermutation(java.math.BigInteger,int,int)"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"decodePermutation(long)"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"decodePermutation(long, int)","u":"decodePermutation(long,int)"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"decodePermutation(long, int, int)","u":"decodePermutation(long,int,int)"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"decodePermutation(long, List<T>)","u":"decodePermutation(long,java.util.List)"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"decodePermutation(long, T[])","u":"decodePermutation(long,T[])"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"decodeX(int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"decodeY(int)"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"DEEP_SEA_LEVEL"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"deepLakeGlyph"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"DEFAULT_DUNGEON"},{"p":"squidpony.squidmath","c":"Arrangement","l":"DEFAULT_INITIAL_SIZE"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"DEFAULT_INITIAL_SIZE"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"DEFAULT_INITIAL_SIZE"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"DEFAULT_INITIAL_SIZE"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"DEFAULT_INITIAL_SIZE"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"DEFAULT_INITIAL_SIZE"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"DEFAULT_INITIAL_SIZE"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"DEFAULT_INITIAL_SIZE"},{"p":"squidpony.squidmath","c":"Arrangement","l":"DEFAULT_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"DEFAULT_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"DEFAULT_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"DEFAULT_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"DEFAULT_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"DEFAULT_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"DEFAULT_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"DEFAULT_LOAD_FACTOR"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"DEFAULT_MAX_KEYS"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceConstraints","l":"DEFAULT_MAX_KEYS"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceConstraints","l":"DEFAULT_MAX_SWITCHES"},{"p":"squidpony.squidai","c":"Technique","l":"DEFAULT_POINT"},{"p":"squidpony.tileset","c":"DefaultDungeon","l":"DefaultDungeon()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CrossHash","l":"defaultHasher"},{"p":"squidpony.squidmath","c":"CrossHash.DefaultHasher","l":"DefaultHasher()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"defaultReturnValue()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"defaultReturnValue()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"defaultReturnValue()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"defaultReturnValue()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"defaultReturnValue()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"defaultReturnValue(double)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"defaultReturnValue(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"defaultReturnValue(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"defaultReturnValue(V)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"defaultReturnValue(V)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"defRetValue"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"defRetValue"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"defRetValue"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"defRetValue"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"defRetValue"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"defRetValue"},{"p":"squidpony.squidmath","c":"Coord","l":"degrees(Coord, Coord)","u":"degrees(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"delta"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"delta"},{"p":"squidpony.squidgrid","c":"Direction","l":"deltaX"},{"p":"squidpony.squidgrid","c":"Direction","l":"deltaY"},{"p":"squidpony","c":"FakeLanguageGen","l":"DEMONIC"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"DenseRoomMapGenerator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"DenseRoomMapGenerator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"DenseRoomMapGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"DEPTH"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"depths"},{"p":"squidpony","c":"IColorCenter","l":"desaturate(T, float)","u":"desaturate(T,float)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"desaturate(T, float)","u":"desaturate(T,float)"},{"p":"squidpony","c":"IColorCenter","l":"desaturated(T)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"desaturated(T)"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"deserializeFromString(String)","u":"deserializeFromString(java.lang.String)"},{"p":"squidpony","c":"FakeLanguageGen","l":"deserializeFromString(String)","u":"deserializeFromString(java.lang.String)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"deserializeFromString(String)","u":"deserializeFromString(java.lang.String)"},{"p":"squidpony","c":"ObText","l":"deserializeFromString(String)","u":"deserializeFromString(java.lang.String)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"deserializeFromString(String)","u":"deserializeFromString(java.lang.String)"},{"p":"squidpony.squidai","c":"PathfindingService","l":"destroy()"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"destroy()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"destroy()"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"DetailedMimic()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"DetailedMimic(AestheticDifference)","u":"%3Cinit%3E(squidpony.squidgrid.AestheticDifference)"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"DetailedMimic(AestheticDifference, RNG)","u":"%3Cinit%3E(squidpony.squidgrid.AestheticDifference,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"deteriorate(RNG, int)","u":"deteriorate(squidpony.squidmath.RNG,int)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"determine(int)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"determine(int, int)","u":"determine(int,int)"},{"p":"squidpony.squidmath","c":"LFSR","l":"determine(long)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"determine(long)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"determine(long)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"determine(long)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"determine(long, long)","u":"determine(long,long)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"determine(long, long, long)","u":"determine(long,long,long)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"determine(long, long, long, long)","u":"determine(long,long,long,long)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"determine2(int)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"determineBounded(int, int)","u":"determineBounded(int,int)"},{"p":"squidpony.squidmath","c":"LFSR","l":"determineBounded(long, int)","u":"determineBounded(long,int)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"determineBounded(long, int)","u":"determineBounded(long,int)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"determineBounded(long, int)","u":"determineBounded(long,int)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"determineBounded(long, int)","u":"determineBounded(long,int)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"determineBounded(long, long, int)","u":"determineBounded(long,long,int)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"determineBounded(long, long, long, int)","u":"determineBounded(long,long,long,int)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"determineBounded(long, long, long, long, int)","u":"determineBounded(long,long,long,long,int)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"determineMixed(int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"DharmaRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"DharmaRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"DharmaRNG(long, double)","u":"%3Cinit%3E(long,double)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"DharmaRNG(RandomnessSource)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"DharmaRNG(RandomnessSource, double)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource,double)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"DharmaRNG(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"DharmaRNG(String, double)","u":"%3Cinit%3E(java.lang.String,double)"},{"p":"squidpony.squidai","c":"AimLimit","l":"DIAGONAL"},{"p":"squidpony.squidgrid","c":"Direction","l":"DIAGONALS"},{"p":"squidpony.squidgrid","c":"Radius","l":"DIAMOND"},{"p":"squidpony.squidmath","c":"Dice","l":"Dice()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"Dice","l":"Dice(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"Dice","l":"Dice(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"Dice","l":"Dice(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"difference"},{"p":"squidpony.squidgrid","c":"AestheticDifference","l":"difference(int, int)","u":"difference(int,int)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"difference(PackedChunks)","u":"difference(squidpony.squidmath.PackedChunks)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"differencePacked(short[], short[])","u":"differencePacked(short[],short[])"},{"p":"squidpony.squidmath","c":"AStarSearch.SearchType","l":"DIJKSTRA"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DijkstraMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DijkstraMap(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DijkstraMap(char[][], char)","u":"%3Cinit%3E(char[][],char)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DijkstraMap(char[][], DijkstraMap.Measurement)","u":"%3Cinit%3E(char[][],squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DijkstraMap(char[][], DijkstraMap.Measurement, RNG)","u":"%3Cinit%3E(char[][],squidpony.squidai.DijkstraMap.Measurement,squidpony.squidmath.RNG)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DijkstraMap(char[][], RNG)","u":"%3Cinit%3E(char[][],squidpony.squidmath.RNG)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DijkstraMap(double[][])","u":"%3Cinit%3E(double[][])"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DijkstraMap(double[][], DijkstraMap.Measurement)","u":"%3Cinit%3E(double[][],squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"DijkstraMap(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"dijkstraScan(char[][], Coord...)","u":"dijkstraScan(char[][],squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"dijkstraScan8way(char[][], Coord...)","u":"dijkstraScan8way(char[][],squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"AreaUtils","l":"dijkstraToHashMap(double[][])"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"direction"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"directionAngles"},{"p":"squidpony.squidai","c":"DijkstraMap.Measurement","l":"directionCount()"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"directions"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"dirs"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"disperse()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"disperse8way()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"disperseRandom(RNG)","u":"disperseRandom(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"displacement"},{"p":"squidpony.squidmath","c":"Coord","l":"distance(Coord)","u":"distance(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Coord3D","l":"distance(Coord3D)","u":"distance(squidpony.squidmath.Coord3D)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"distance(CoordDouble)","u":"distance(squidpony.squidmath.CoordDouble)"},{"p":"squidpony.squidmath","c":"Coord","l":"distance(double, double)","u":"distance(double,double)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"distance(double, double)","u":"distance(double,double)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"distanceCache"},{"p":"squidpony.squidmath","c":"Coord","l":"distanceSq(Coord)","u":"distanceSq(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"distanceSq(CoordDouble)","u":"distanceSq(squidpony.squidmath.CoordDouble)"},{"p":"squidpony.squidmath","c":"Coord","l":"distanceSq(double, double)","u":"distanceSq(double,double)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"distanceSq(double, double)","u":"distanceSq(double,double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"distribution"},{"p":"squidpony.squidmath","c":"Coord","l":"divide(Coord)","u":"divide(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Coord","l":"divide(double)"},{"p":"squidpony.squidmath","c":"Coord","l":"divide(int)"},{"p":"squidpony.squidgrid.mapping","c":"DividedMazeGenerator","l":"DividedMazeGenerator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DividedMazeGenerator","l":"DividedMazeGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"Coord","l":"divideRounding(double)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"done"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"doorFX"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator.FillEffect","l":"DOORS"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"doorways"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"dot(double[], double, double)","u":"dot(double[],double,double)"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"dot(int[], double, double, double)","u":"dot(int[],double,double,double)"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"dot(int[], double, double, double, double)","u":"dot(int[],double,double,double,double)"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"dotf(float[], float, float)","u":"dotf(float[],float,float)"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"dotf(int[], float, float, float)","u":"dotf(int[],float,float,float)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"DOUBLE_CONSONANTS"},{"p":"squidpony.squidmath","c":"RNG","l":"DOUBLE_UNIT"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"DOUBLE_VOWELS"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"DoubleCollection()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CrossHash","l":"doubleHasher"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"DoubleIterator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"doubleWidth(char[][])"},{"p":"squidpony.squidgrid","c":"Direction","l":"DOWN"},{"p":"squidpony.squidgrid","c":"Direction","l":"DOWN_LEFT"},{"p":"squidpony.squidgrid","c":"Direction","l":"DOWN_RIGHT"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Down","l":"Down(int, int, int, int)","u":"%3Cinit%3E(int,int,int,int)"},{"p":"squidpony.squidgrid","c":"Splash","l":"drunkinize(RNG, char[][], List<Coord>, List<Coord>, int)","u":"drunkinize(squidpony.squidmath.RNG,char[][],java.util.List,java.util.List,int)"},{"p":"squidpony.squidai","c":"Technique","l":"dungeon"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"dungeon"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"dungeon"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"dungeon"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"dungeon"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"dungeon"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"DungeonBoneGen()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"DungeonBoneGen(Random)","u":"%3Cinit%3E(java.util.Random)"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"DungeonBoneGen(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"DungeonGenerator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"DungeonGenerator(DungeonGenerator)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.DungeonGenerator)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"DungeonGenerator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"DungeonGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"dungeonHeight"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"DungeonUtility()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"DungeonUtility(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"DungeonUtility(StatefulRNG)","u":"%3Cinit%3E(squidpony.squidmath.StatefulRNG)"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"dungeonWidth"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"e_constraint"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"EDGE_COUNT_COMPARATOR"},{"p":"squidpony.squidgrid.mapping.locks","c":"Edge","l":"Edge(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Edge","l":"Edge(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"edgeGraphifyProbability(int, int)","u":"edgeGraphifyProbability(int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"edgeGraphifyProbability(int, int)","u":"edgeGraphifyProbability(int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ILayoutConstraints","l":"edgeGraphifyProbability(int, int)","u":"edgeGraphifyProbability(int,int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"edges"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG(long, double)","u":"%3Cinit%3E(long,double)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG(long, double, double)","u":"%3Cinit%3E(long,double,double)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG(RandomnessSource)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG(RandomnessSource, double)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource,double)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG(RandomnessSource, double, double)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource,double,double)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG(String, double)","u":"%3Cinit%3E(java.lang.String,double)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"EditRNG(String, double, double)","u":"%3Cinit%3E(java.lang.String,double,double)"},{"p":"squidpony.squidai","c":"AimLimit","l":"EIGHT_WAY"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition.SwitchState","l":"EITHER"},{"p":"squidpony.squidgrid","c":"SpatialMap.SpatialTriple","l":"element"},{"p":"squidpony","c":"FakeLanguageGen","l":"ELF"},{"p":"squidpony.squidgrid","c":"LOS","l":"ELIAS"},{"p":"squidpony.squidmath","c":"Elias","l":"Elias()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"EMPTY_SPACE"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"empty()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"empty()"},{"p":"squidpony.squidmath","c":"Coord","l":"encode()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"encode(Coord)","u":"encode(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"encode(Coord)","u":"encode(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"encode(int, int)","u":"encode(int,int)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"encode(int, int)","u":"encode(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"encodeASCII(short[])"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"encodeBigPermutation(int[])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"encodeBraille(short[])"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"encodePermutation(int[])"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"encodePermutation(List<T>)","u":"encodePermutation(java.util.List)"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"encodePermutation(T[])"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"ends"},{"p":"squidpony","c":"FakeLanguageGen","l":"ENGLISH"},{"p":"squidpony.squidmath","c":"IntVLA","l":"ensureCapacity(int)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"ensureCapacity(int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"ensureCapacity(int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"ensurePath(char[][], RNG, char, char...)","u":"ensurePath(char[][],squidpony.squidmath.RNG,char,char...)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"ensureTiles(int, int)","u":"ensureTiles(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"ENTRANCE"},{"p":"squidpony.squidmath","c":"Arrangement","l":"entries"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"entries"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"entries"},{"p":"squidpony.squidmath","c":"Arrangement","l":"entryAt(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"entryAt(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.EntryIterator","l":"EntryIterator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.EntryIterator","l":"EntryIterator(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"entrySet()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"entrySet()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"entrySet()"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"environment"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"environment"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"environment"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"environment"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"environment"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"environment"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"environment()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"environmentType"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"epi"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"epsilon"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"epsilon"},{"p":"squidpony.squidmath","c":"CrossHash","l":"equalityHelper(Object[], Object[], CrossHash.IHasher)","u":"equalityHelper(java.lang.Object[],java.lang.Object[],squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"equals(IColoredString<T>, IColoredString<T>)","u":"equals(squidpony.panel.IColoredString,squidpony.panel.IColoredString)"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony","c":"FakeLanguageGen","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony","c":"ObText","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Edge","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidgrid","c":"SpatialMap.SpatialTriple","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"Coord","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"Coord3D","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntry","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"LFSR","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"RNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"SquidID","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"equals(Object, Object)","u":"equals(java.lang.Object,java.lang.Object)"},{"p":"squidpony.squidgrid","c":"Radius","l":"equals2D(Radius)","u":"equals2D(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"eta"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"eta"},{"p":"squidpony.squidai","c":"DijkstraMap.Measurement","l":"EUCLIDEAN"},{"p":"squidpony.squidgrid","c":"Spill.Measurement","l":"EUCLIDEAN"},{"p":"squidpony.squidmath","c":"AStarSearch.SearchType","l":"EUCLIDEAN"},{"p":"squidpony","c":"DamerauLevenshteinAlgorithm","l":"execute(String, String)","u":"execute(java.lang.String,java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"EXIT"},{"p":"squidpony.squidmath","c":"RandomBias","l":"EXP_TRI"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"expand()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"expand()"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"expand(int)"},{"p":"squidpony.squidgrid.zone","c":"ImmutableZone","l":"expand(int)"},{"p":"squidpony.squidgrid.zone","c":"MutableZone","l":"expand(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"expand(int)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"expand(int)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"expand(int)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"expand(int, boolean)","u":"expand(int,boolean)"},{"p":"squidpony.squidgrid","c":"Radius","l":"expand(int, int, int, Iterable<Coord>)","u":"expand(int,int,int,java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"expand(short[], int, int, int)","u":"expand(short[],int,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"expand(short[], int, int, int, boolean)","u":"expand(short[],int,int,int,boolean)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"expand8way()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"expand8way()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"expand8way(int)"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"expand8way(int)"},{"p":"squidpony.squidgrid.zone","c":"ImmutableZone","l":"expand8way(int)"},{"p":"squidpony.squidgrid.zone","c":"MutableZone","l":"expand8way(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"expand8way(int)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"expand8way(int)"},{"p":"squidpony.squidmath","c":"Coord","l":"expandPool(int, int)","u":"expandPool(int,int)"},{"p":"squidpony.squidmath","c":"Coord","l":"expandPoolTo(int, int)","u":"expandPoolTo(int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"expandSeries(GreasedRegion[])","u":"expandSeries(squidpony.squidmath.GreasedRegion[])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"expandSeries(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"expandSeries8way(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"expandSeriesToLimit()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"expandSeriesToLimit8way()"},{"p":"squidpony.squidmath","c":"RandomBias","l":"EXPONENTIAL"},{"p":"squidpony.squidgrid","c":"Radius","l":"extend(Coord, Coord, int, boolean, int, int)","u":"extend(squidpony.squidmath.Coord,squidpony.squidmath.Coord,int,boolean,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"extend(Rectangle, Direction)","u":"extend(squidpony.squidgrid.mapping.Rectangle,squidpony.squidgrid.Direction)"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"extendRoom(boolean[][], Rectangle, Direction)","u":"extendRoom(boolean[][],squidpony.squidgrid.mapping.Rectangle,squidpony.squidgrid.Direction)"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"extendRoomOnce(boolean[][], Rectangle, Direction)","u":"extendRoomOnce(boolean[][],squidpony.squidgrid.mapping.Rectangle,squidpony.squidgrid.Direction)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"extractCoord(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"extractN(int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"extractN(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"extractN(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"extractR(int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"extractR(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"extractR(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"extractX(int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"extractX(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"extractX(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"extractY(int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"extractY(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"extractY(int)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"extraTable"},{"p":"squidpony.squidmath","c":"Arrangement","l":"f"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"f"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"f"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"f"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"f"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"f"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"f"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"f"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"f_constraint"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"f(int, int)","u":"f(int,int)"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"F2"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"F2f"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"F3"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"F3f"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"F4"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"F4f"},{"p":"squidpony.squidmath","c":"MathExtras","l":"factorial(int)"},{"p":"squidpony","c":"FakeLanguageGen","l":"FakeLanguageGen()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"FakeLanguageGen","l":"FakeLanguageGen(String[], String[], String[], String[], String[], String[], String[], int[], double[], double, double, double, double)","u":"%3Cinit%3E(java.lang.String[],java.lang.String[],java.lang.String[],java.lang.String[],java.lang.String[],java.lang.String[],java.lang.String[],int[],double[],double,double,double,double)"},{"p":"squidpony","c":"FakeLanguageGen","l":"FakeLanguageGen(String[], String[], String[], String[], String[], String[], String[], int[], double[], double, double, double, double, Pattern[], boolean)","u":"%3Cinit%3E(java.lang.String[],java.lang.String[],java.lang.String[],java.lang.String[],java.lang.String[],java.lang.String[],java.lang.String[],int[],double[],double,double,double,double,regexodus.Pattern[],boolean)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"Falcon()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"FakeLanguageGen","l":"FANCY_FANTASY_NAME"},{"p":"squidpony","c":"FakeLanguageGen","l":"FANTASY_NAME"},{"p":"squidpony.squidmath","c":"Arrangement","l":"FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"Arrangement.FastEntryIterator","l":"FastEntryIterator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.FastEntryIterator","l":"FastEntryIterator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"OrderedMap.FastEntryIterator","l":"FastEntryIterator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.FastEntryIterator","l":"FastEntryIterator(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"fastIterator()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"fastIterator()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"fastIterator(IntDoubleOrderedMap.MapEntry)","u":"fastIterator(squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony","c":"Messaging.NounTrait","l":"FEMALE_GENDER"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"fg"},{"p":"squidpony.panel","c":"ICombinedPanel.What","l":"FG"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fill(boolean)"},{"p":"squidpony","c":"ArrayTools","l":"fill(boolean, int, int)","u":"fill(boolean,int,int)"},{"p":"squidpony","c":"ArrayTools","l":"fill(boolean[][], boolean)","u":"fill(boolean[][],boolean)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"fill(boolean[][], boolean)","u":"fill(boolean[][],boolean)"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"fill(boolean[][], int, double, int, RNG)","u":"fill(boolean[][],int,double,int,squidpony.squidmath.RNG)"},{"p":"squidpony","c":"ArrayTools","l":"fill(byte, int, int)","u":"fill(byte,int,int)"},{"p":"squidpony","c":"ArrayTools","l":"fill(byte[][], byte)","u":"fill(byte[][],byte)"},{"p":"squidpony","c":"ArrayTools","l":"fill(char, int, int)","u":"fill(char,int,int)"},{"p":"squidpony","c":"ArrayTools","l":"fill(char[][], char)","u":"fill(char[][],char)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"fill(char[][], char)","u":"fill(char[][],char)"},{"p":"squidpony","c":"ArrayTools","l":"fill(double, int, int)","u":"fill(double,int,int)"},{"p":"squidpony","c":"ArrayTools","l":"fill(double[][], double)","u":"fill(double[][],double)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"fill(double[][], double)","u":"fill(double[][],double)"},{"p":"squidpony","c":"ArrayTools","l":"fill(float, int, int)","u":"fill(float,int,int)"},{"p":"squidpony","c":"ArrayTools","l":"fill(float[][], float)","u":"fill(float[][],float)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"fill(ICombinedPanel.What, T)","u":"fill(squidpony.panel.ICombinedPanel.What,T)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"fill(ICombinedPanel.What, T)","u":"fill(squidpony.panel.ICombinedPanel.What,T)"},{"p":"squidpony","c":"ArrayTools","l":"fill(int, int, int)","u":"fill(int,int,int)"},{"p":"squidpony","c":"ArrayTools","l":"fill(int[][], int)","u":"fill(int[][],int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"fill(int[][], int)","u":"fill(int[][],int)"},{"p":"squidpony","c":"GwtCompatibility","l":"fill2D(boolean, int, int)","u":"fill2D(boolean,int,int)"},{"p":"squidpony","c":"GwtCompatibility","l":"fill2D(char, int, int)","u":"fill2D(char,int,int)"},{"p":"squidpony","c":"GwtCompatibility","l":"fill2D(double, int, int)","u":"fill2D(double,int,int)"},{"p":"squidpony","c":"GwtCompatibility","l":"fill2D(int, int, int)","u":"fill2D(int,int,int)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"filled"},{"p":"squidpony.squidgrid","c":"Spill","l":"filled"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"fillSolo(boolean[][], int, double, int, RNG)","u":"fillSolo(boolean[][],int,double,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"fillVector(double[])"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"filter"},{"p":"squidpony","c":"IColorCenter","l":"filter(IColoredString<T>)","u":"filter(squidpony.panel.IColoredString)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"filter(IColoredString<T>)","u":"filter(squidpony.panel.IColoredString)"},{"p":"squidpony","c":"IColorCenter","l":"filter(T)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"filter(T)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"findAlerted(Set<Coord>, Map<Coord, Double>)","u":"findAlerted(java.util.Set,java.util.Map)"},{"p":"squidpony.squidai","c":"AOE","l":"findArea()"},{"p":"squidpony.squidai","c":"BeamAOE","l":"findArea()"},{"p":"squidpony.squidai","c":"BlastAOE","l":"findArea()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"findArea()"},{"p":"squidpony.squidai","c":"CloudAOE","l":"findArea()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"findArea()"},{"p":"squidpony.squidai","c":"LineAOE","l":"findArea()"},{"p":"squidpony.squidai","c":"PointAOE","l":"findArea()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findAttackPath(int, int, int, LOS, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findAttackPath(int,int,int,squidpony.squidgrid.LOS,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findAttackPath(int, int, LOS, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findAttackPath(int,int,squidpony.squidgrid.LOS,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findAttackPathLarge(int, int, int, int, LOS, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findAttackPathLarge(int,int,int,int,squidpony.squidgrid.LOS,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findAttackPathLarge(int, int, int, LOS, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findAttackPathLarge(int,int,int,squidpony.squidgrid.LOS,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"findBoss()"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"findBoss()"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"findCaves()"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"findCorridors()"},{"p":"squidpony.squidgrid.mapping","c":"Placement","l":"finder"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"finder"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findFleePath(int, double, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findFleePath(int,double,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findFleePath(int, double, IntVLA, IntVLA, int, int...)","u":"findFleePath(int,double,squidpony.squidmath.IntVLA,squidpony.squidmath.IntVLA,int,int...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findFleePath(int, int, double, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findFleePath(int,int,double,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findFleePath(int, int, double, IntVLA, IntVLA, int, int...)","u":"findFleePath(int,int,double,squidpony.squidmath.IntVLA,squidpony.squidmath.IntVLA,int,int...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findFleePathLarge(int, int, double, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findFleePathLarge(int,int,double,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findFleePathLarge(int, int, int, int, IntVLA, IntVLA, int, int...)","u":"findFleePathLarge(int,int,int,int,squidpony.squidmath.IntVLA,squidpony.squidmath.IntVLA,int,int...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findFleePathLarge(int, int, int, IntVLA, IntVLA, int, int...)","u":"findFleePathLarge(int,int,int,squidpony.squidmath.IntVLA,squidpony.squidmath.IntVLA,int,int...)"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"findGoal()"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"findGoal()"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"findManyPacked(int, int, Collection<short[]>)","u":"findManyPacked(int,int,java.util.Collection)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"findManyPacked(int, int, short[]...)","u":"findManyPacked(int,int,short[]...)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"findManyPackedHilbert(short, short[]...)","u":"findManyPackedHilbert(short,short[]...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findMeasurement(Radius)","u":"findMeasurement(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findMeasurement(Radius)","u":"findMeasurement(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findNearest(Coord, Collection<Coord>)","u":"findNearest(squidpony.squidmath.Coord,java.util.Collection)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findNearest(Coord, Coord...)","u":"findNearest(squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findNearestMultiple(Coord, int, Collection<Coord>)","u":"findNearestMultiple(squidpony.squidmath.Coord,int,java.util.Collection)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"findNext()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"findNext(boolean)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"findNext(boolean)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"findNext0()"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"findPath(Coord, Coord)","u":"findPath(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findPath(int, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findPath(int,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"findPath(int, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findPath(int,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findPath(int, int, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findPath(int,int,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"findPath(int, int, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findPath(int,int,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findPath(int, int, IntVLA, IntVLA, int, int...)","u":"findPath(int,int,squidpony.squidmath.IntVLA,squidpony.squidmath.IntVLA,int,int...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findPath(int, IntVLA, IntVLA, int, int...)","u":"findPath(int,squidpony.squidmath.IntVLA,squidpony.squidmath.IntVLA,int,int...)"},{"p":"squidpony.squidai","c":"PathfindingService","l":"findPath(PathfindingService.Request)","u":"findPath(squidpony.squidai.PathfindingService.Request)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findPathLarge(int, int, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findPathLarge(int,int,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findPathLarge(int, int, int, Collection<Coord>, Collection<Coord>, Coord, Coord...)","u":"findPathLarge(int,int,int,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findPathLarge(int, int, int, IntVLA, IntVLA, int, int...)","u":"findPathLarge(int,int,int,squidpony.squidmath.IntVLA,squidpony.squidmath.IntVLA,int,int...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findPathLarge(int, int, IntVLA, IntVLA, int, int...)","u":"findPathLarge(int,int,squidpony.squidmath.IntVLA,squidpony.squidmath.IntVLA,int,int...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findPathPreScanned(Coord)","u":"findPathPreScanned(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"findPathPreScanned(Coord)","u":"findPathPreScanned(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"PathfindingService","l":"findPaths(List<PathfindingService.Request>)","u":"findPaths(java.util.List)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"findRadius(DijkstraMap.Measurement)","u":"findRadius(squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findRadius(DijkstraMap.Measurement)","u":"findRadius(squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"findRectangles()"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"findRegions()"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"findRooms()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findShortcutPath(Coord, Coord...)","u":"findShortcutPath(squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"findStart()"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"findStart()"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"findSwitch()"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"findSwitch()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"findTechniquePath(int, Technique, char[][], LOS, Collection<Coord>, Collection<Coord>, Coord, Collection<Coord>)","u":"findTechniquePath(int,squidpony.squidai.Technique,char[][],squidpony.squidgrid.LOS,java.util.Collection,java.util.Collection,squidpony.squidmath.Coord,java.util.Collection)"},{"p":"squidpony","c":"Messaging.BeingSubstitution","l":"finisher"},{"p":"squidpony.squidmath","c":"Arrangement","l":"first"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"first"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"first"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"first"},{"p":"squidpony","c":"Messaging.NounTrait","l":"FIRST_PERSON_PLURAL"},{"p":"squidpony","c":"Messaging.NounTrait","l":"FIRST_PERSON_SINGULAR"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"first()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"first()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"first()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"first()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"first()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"first()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"first()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"first()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"first()"},{"p":"squidpony.squidmath","c":"ShortSet","l":"first()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"first()"},{"p":"squidpony","c":"GwtCompatibility","l":"first(Iterable<T>)","u":"first(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"firstInt()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"firstIntKey()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"firstKey()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"firstKey()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"firstKey()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"firstKey()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"firstKey()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"firstKey()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"firstRoomId"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fit(double, double)","u":"fit(double,double)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fit(int[][], int)","u":"fit(int[][],int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"fixedRooms"},{"p":"squidpony.squidmath","c":"Arrangement","l":"fixOrder(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"fixOrder(int)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"fixOrder(int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"fixOrder(int, int)","u":"fixOrder(int,int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"fixOrder(int, int)","u":"fixOrder(int,int)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"fixOrder(int, int)","u":"fixOrder(int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"fixPointers(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"fixPointers(int, int)","u":"fixPointers(int,int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"fixValues(int)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"FlatDijkstraMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"FlatDijkstraMap(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"FlatDijkstraMap(char[][], DijkstraMap.Measurement)","u":"%3Cinit%3E(char[][],squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"FlatDijkstraMap(char[][], DijkstraMap.Measurement, RNG)","u":"%3Cinit%3E(char[][],squidpony.squidai.DijkstraMap.Measurement,squidpony.squidmath.RNG)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"FlatDijkstraMap(double[][], DijkstraMap.Measurement)","u":"%3Cinit%3E(double[][],squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"FlatDijkstraMap(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"FOV","l":"flatLight"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"flip(boolean, boolean)","u":"flip(boolean,boolean)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"flip(int, int)","u":"flip(int,int)"},{"p":"squidpony.squidmath","c":"RNG","l":"FLOAT_UNIT"},{"p":"squidpony.squidmath","c":"CrossHash","l":"floatHasher"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"flood(GreasedRegion)","u":"flood(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"flood(GreasedRegion, int)","u":"flood(squidpony.squidmath.GreasedRegion,int)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"flood(PackedChunks, int)","u":"flood(squidpony.squidmath.PackedChunks,int)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"flood(PackedChunks, int, boolean)","u":"flood(squidpony.squidmath.PackedChunks,int,boolean)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"flood(short[], short[], int)","u":"flood(short[],short[],int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"flood(short[], short[], int, boolean)","u":"flood(short[],short[],int,boolean)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"flood(SparseGreasedRegion)","u":"flood(squidpony.squidmath.SparseGreasedRegion)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"flood(SparseGreasedRegion, int)","u":"flood(squidpony.squidmath.SparseGreasedRegion,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"flood8way(GreasedRegion)","u":"flood8way(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"flood8way(GreasedRegion, int)","u":"flood8way(squidpony.squidmath.GreasedRegion,int)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"flood8way(SparseGreasedRegion, int)","u":"flood8way(squidpony.squidmath.SparseGreasedRegion,int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"floodFill(int, Coord...)","u":"floodFill(int,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"floodFill(int, int...)","u":"floodFill(int,int...)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"floodSeries(GreasedRegion, GreasedRegion[])","u":"floodSeries(squidpony.squidmath.GreasedRegion,squidpony.squidmath.GreasedRegion[])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"floodSeries(GreasedRegion, int)","u":"floodSeries(squidpony.squidmath.GreasedRegion,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"floodSeries8way(GreasedRegion, int)","u":"floodSeries8way(squidpony.squidmath.GreasedRegion,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"floodSeriesToLimit(GreasedRegion)","u":"floodSeriesToLimit(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"floodSeriesToLimit8way(GreasedRegion)","u":"floodSeriesToLimit8way(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"FLOOR"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"FLOOR"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"FLOOR"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"FLOOR"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"floors"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"fov"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"fov"},{"p":"squidpony.squidgrid","c":"FOV","l":"FOV()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"FOV","l":"FOV(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"FOVCache(char[][], int, int, Radius, int)","u":"%3Cinit%3E(char[][],int,int,squidpony.squidgrid.Radius,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"FOVCache(char[][], int, int, Radius, int, Map<Coord, Integer>)","u":"%3Cinit%3E(char[][],int,int,squidpony.squidgrid.Radius,int,java.util.Map)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"FOVCache(char[][], int, Radius)","u":"%3Cinit%3E(char[][],int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"fovPermissiveness"},{"p":"squidpony.squidgrid","c":"FOVCache.FOVUnit","l":"FOVUnit(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"fractionPacked(short[], int)","u":"fractionPacked(short[],int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"fractionPackedHilbert(short[], int)","u":"fractionPackedHilbert(short[],int)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"fragments"},{"p":"squidpony.squidai","c":"AimLimit","l":"FREE"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"FreeformConstraints(ColorMap)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.locks.constraints.ColorMap)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"freeSlots"},{"p":"squidpony","c":"FakeLanguageGen","l":"FRENCH"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"fresh"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"fresh"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"fresh"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fringe()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"fringe()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fringe(int)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"fringe(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"fringe(short[], int, int, int)","u":"fringe(short[],int,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"fringe(short[], int, int, int, boolean)","u":"fringe(short[],int,int,int,boolean)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"fringe(short[], int, int, int, boolean, boolean)","u":"fringe(short[],int,int,int,boolean,boolean)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fringe8way()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fringe8way(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"fringes(short[], int, int, int)","u":"fringes(short[],int,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"fringes(short[], int, int, int, boolean)","u":"fringes(short[],int,int,int,boolean)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fringeSeries(GreasedRegion[])","u":"fringeSeries(squidpony.squidmath.GreasedRegion[])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fringeSeries(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fringeSeries8way(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fringeSeriesToLimit()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"fringeSeriesToLimit8way()"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"fromExtremes(int, int, int, int)","u":"fromExtremes(int,int,int,int)"},{"p":"squidpony","c":"Messaging.NounTrait","l":"fvesText()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"fx"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"g(int, int)","u":"g(int,int)"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"G2"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"G2f"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"G3"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"G3f"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"G4"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"G4f"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"gamma"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"gamma"},{"p":"squidpony.squidmath","c":"GapShuffler","l":"GapShuffler(Collection<T>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"squidpony.squidmath","c":"GapShuffler","l":"GapShuffler(Collection<T>, RNG)","u":"%3Cinit%3E(java.util.Collection,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"gCache"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"gen"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"GENERAL_CLEANUP"},{"p":"squidpony.squidmath","c":"CrossHash","l":"generalHasher"},{"p":"squidpony.squidgrid.mapping","c":"ClassicRogueMapGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"ILayoutGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"generate()"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"generate()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"generate(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"generate(char[][], int[][])","u":"generate(char[][],int[][])"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"generate(int)"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"generate(int)"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"generate(int, boolean)","u":"generate(int,boolean)"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"generate(int, boolean, boolean, double, double)","u":"generate(int,boolean,boolean,double,double)"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"generate(int, boolean, double)","u":"generate(int,boolean,double)"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"generate(int, boolean, double, double)","u":"generate(int,boolean,double,double)"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"generate(Tileset, int, int)","u":"generate(squidpony.squidgrid.mapping.styled.Tileset,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"generate(TilesetType)","u":"generate(squidpony.squidgrid.mapping.styled.TilesetType)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"generate(TilesetType)","u":"generate(squidpony.squidgrid.mapping.styled.TilesetType)"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"generate(TilesetType, int, int)","u":"generate(squidpony.squidgrid.mapping.styled.TilesetType,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generateAStarCostMap(char[][], Map<Character, Double>, double)","u":"generateAStarCostMap(char[][],java.util.Map,double)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generateBGPaletteIndices(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generateBGPaletteIndices(char[][], char, int, char, int)","u":"generateBGPaletteIndices(char[][],char,int,char,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generateCostMap(char[][], Map<Character, Double>, double)","u":"generateCostMap(char[][],java.util.Map,double)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"generated"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"generateGoal"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"generateLightLevels(int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generateLightnessModifiers(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generateLightnessModifiers(char[][], double)","u":"generateLightnessModifiers(char[][],double)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generateLightnessModifiers(char[][], double, char, char)","u":"generateLightnessModifiers(char[][],double,char,char)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"generatePackingLevels(int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generatePaletteIndices(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generatePaletteIndices(char[][], char, int, char, int)","u":"generatePaletteIndices(char[][],char,int,char,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"generateResistances(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"generateRespectingStairs(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"generateRespectingStairs(char[][], int[][])","u":"generateRespectingStairs(char[][],int[][])"},{"p":"squidpony","c":"SquidTags","l":"GENERATION"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"GenerationFailureException","l":"GenerationFailureException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"GenerationFailureException","l":"GenerationFailureException(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceMap","l":"get(Coord)","u":"get(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"get(Coord)","u":"get(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"get(Coord)","u":"get(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"get(Coord)","u":"get(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"get(double, double)","u":"get(double,double)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"get(I)"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"get(int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"get(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"get(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"get(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"get(int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"get(int)"},{"p":"squidpony.squidmath","c":"Region","l":"get(int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"get(int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"get(int, int)","u":"get(int,int)"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"get(int, int)","u":"get(int,int)"},{"p":"squidpony.squidmath","c":"Coord","l":"get(int, int)","u":"get(int,int)"},{"p":"squidpony","c":"IColorCenter","l":"get(int, int, int)","u":"get(int,int,int)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"get(int, int, int)","u":"get(int,int,int)"},{"p":"squidpony.squidmath","c":"Coord3D","l":"get(int, int, int)","u":"get(int,int,int)"},{"p":"squidpony","c":"IColorCenter","l":"get(int, int, int, int)","u":"get(int,int,int,int)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"get(int, int, int, int)","u":"get(int,int,int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"get(Integer)","u":"get(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"get(long)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"get(Object)","u":"get(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"get(Object)","u":"get(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"get(Object)","u":"get(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"get(Object)","u":"get(java.lang.Object)"},{"p":"squidpony.squidmath","c":"K2","l":"getAAt(int)"},{"p":"squidpony.squidmath","c":"K2V1","l":"getAAt(int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"getAdjacentRooms(int, int)","u":"getAdjacentRooms(int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"getAdjacentRooms(int, int)","u":"getAdjacentRooms(int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ILayoutConstraints","l":"getAdjacentRooms(int, int)","u":"getAdjacentRooms(int,int)"},{"p":"squidpony.squidmath","c":"K2","l":"getAFromB(Object)","u":"getAFromB(java.lang.Object)"},{"p":"squidpony.squidmath","c":"K2V1","l":"getAFromB(Object)","u":"getAFromB(java.lang.Object)"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"getAll()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"getAll()"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"getAll()"},{"p":"squidpony.squidgrid.zone","c":"ListZone","l":"getAll()"},{"p":"squidpony.squidgrid.zone","c":"Zone","l":"getAll()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"getAll()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"getAll()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"getAll4Corners(Rectangle, Coord[])","u":"getAll4Corners(squidpony.squidgrid.mapping.Rectangle,squidpony.squidmath.Coord[])"},{"p":"squidpony.squidmath","c":"MultiKey","l":"getAllAt(int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"getAllAt(int, Object[])","u":"getAllAt(int,java.lang.Object[])"},{"p":"squidpony.squidgrid.mapping","c":"Placement","l":"getAlongStraightWalls()"},{"p":"squidpony","c":"IColorCenter","l":"getAlpha(T)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"getAndMoveToFirst(int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"getAndMoveToFirst(K)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"getAndMoveToFirst(K)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"getAndMoveToLast(int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"getAndMoveToLast(K)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"getAndMoveToLast(K)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getAngle()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"getAt(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"getAt(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"getAt(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"getAt(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"getAt(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"getAt(int)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"getAt(int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"getAt(int, int)","u":"getAt(int,int)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"getBacker()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"getBareDungeon()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"getBareDungeon()"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"getBareMap()"},{"p":"squidpony.squidmath","c":"K2","l":"getBAt(int)"},{"p":"squidpony.squidmath","c":"K2V1","l":"getBAt(int)"},{"p":"squidpony.squidmath","c":"K2","l":"getBFromA(Object)","u":"getBFromA(java.lang.Object)"},{"p":"squidpony.squidmath","c":"K2V1","l":"getBFromA(Object)","u":"getBFromA(java.lang.Object)"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"getBigTotalPermutations(int)"},{"p":"squidpony","c":"IColorCenter","l":"getBlack()"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getBlack()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"getBlockingRequirement()"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"getBlockingRequirement()"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"getBlockingRequirement()"},{"p":"squidpony","c":"IColorCenter","l":"getBlue(T)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"getBorder(Rectangle, Direction, List<Coord>)","u":"getBorder(squidpony.squidgrid.mapping.Rectangle,squidpony.squidgrid.Direction,java.util.List)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"getBottom()"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"getBottomLeft()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle","l":"getBottomLeft()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"getBottomLeft()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceMap","l":"getBottomSpaces()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"getCacheEntry(int, int)","u":"getCacheEntry(int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"getCacheEntry(int, int, int)","u":"getCacheEntry(int,int,int)"},{"p":"squidpony.squidmath","c":"Coord","l":"getCacheHeight()"},{"p":"squidpony","c":"LanguageCipher","l":"getCacheLevel()"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"getCacheLevel()"},{"p":"squidpony.squidmath","c":"Coord","l":"getCacheWidth()"},{"p":"squidpony.squidgrid","c":"Direction","l":"getCardinalDirection(int, int)","u":"getCardinalDirection(int,int)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"getCenter()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"getCenter()"},{"p":"squidpony.squidai","c":"CloudAOE","l":"getCenter()"},{"p":"squidpony.squidai","c":"PointAOE","l":"getCenter()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"getCenter()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"getCenter()"},{"p":"squidpony.squidgrid.mapping","c":"Placement","l":"getCenters()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getCentrality()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"getChildren()"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"getChunk(int, int)","u":"getChunk(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"getCities()"},{"p":"squidpony.panel","c":"IColoredString.Bucket","l":"getColor()"},{"p":"squidpony.squidmath","c":"Region","l":"getCoords()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"getCoords(int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"getCoords(int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ILayoutConstraints","l":"getCoords(int)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"getCorner(Rectangle, Direction)","u":"getCorner(squidpony.squidgrid.mapping.Rectangle,squidpony.squidgrid.Direction)"},{"p":"squidpony.squidgrid.mapping","c":"Placement","l":"getCorners()"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"getCostMap()"},{"p":"squidpony.panel","c":"ISquidPanel","l":"getDefaultForegroundColor()"},{"p":"squidpony.squidgrid","c":"Direction","l":"getDirection(int, int)","u":"getDirection(int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntry","l":"getDoubleValue()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"getDungeon()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"getDungeon()"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"getDungeon()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"getEdge(int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"getEdges()"},{"p":"squidpony.squidai","c":"BeamAOE","l":"getEnd()"},{"p":"squidpony.squidai","c":"LineAOE","l":"getEnd()"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"getEnvironment()"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"getEnvironment()"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"getEnvironment()"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"getEnvironment()"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"getEnvironment()"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"getEnvironment()"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"getEnvironment()"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"getEnvironment(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"getEnvironments()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getExpected()"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"getExtentBounds()"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"getExtentBounds()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"getFairness()"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"getFixedRooms()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"getFortune()"},{"p":"squidpony.squidmath","c":"MultiKey","l":"getFrom(int, int, Object)","u":"getFrom(int,int,java.lang.Object)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"getGradientCacheHits()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"getGradientCacheLimit()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"getGradientCacheMisses()"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"getGradientMap()"},{"p":"squidpony","c":"IColorCenter","l":"getGreen(T)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"getHeight()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"getHeight()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"getHeightMap()"},{"p":"squidpony.squidgrid.mapping","c":"Placement","l":"getHidingPlaces(Radius, int)","u":"getHidingPlaces(squidpony.squidgrid.Radius,int)"},{"p":"squidpony","c":"IColorCenter","l":"getHSV(float, float, float)","u":"getHSV(float,float,float)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getHSV(float, float, float)","u":"getHSV(float,float,float)"},{"p":"squidpony","c":"IColorCenter","l":"getHSV(float, float, float, float)","u":"getHSV(float,float,float,float)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getHSV(float, float, float, float)","u":"getHSV(float,float,float,float)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getHue(float, float, float)","u":"getHue(float,float,float)"},{"p":"squidpony","c":"IColorCenter","l":"getHue(T)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getHue(T)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"getIdentity(Coord)","u":"getIdentity(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"ZOI","l":"getInfluences()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"getInt(Object)","u":"getInt(java.lang.Object)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"getIntensity()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntry","l":"getIntKey()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"getItem()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntry","l":"getKey()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"getKeyLevel()"},{"p":"squidpony.squidai","c":"WaypointPathfinder","l":"getKnownPath(Coord, Coord)","u":"getKnownPath(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"LOS","l":"getLastPath()"},{"p":"squidpony.squidmath","c":"Elias","l":"getLastPath()"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"getLastPathCost()"},{"p":"squidpony.squidmath","c":"SquidID","l":"getLeastSignificantBits()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"getLeft()"},{"p":"squidpony.squidai","c":"AOE","l":"getLimitType()"},{"p":"squidpony.squidai","c":"BeamAOE","l":"getLimitType()"},{"p":"squidpony.squidai","c":"BlastAOE","l":"getLimitType()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"getLimitType()"},{"p":"squidpony.squidai","c":"CloudAOE","l":"getLimitType()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getLimitType()"},{"p":"squidpony.squidai","c":"LineAOE","l":"getLimitType()"},{"p":"squidpony.squidai","c":"PointAOE","l":"getLimitType()"},{"p":"squidpony.squidmath","c":"K2V1","l":"getListQ()"},{"p":"squidpony.squidmath","c":"Coord","l":"getLocation()"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"getLocation()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"getLOSEntry(int, int)","u":"getLOSEntry(int,int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"getMany(Collection<K>)","u":"getMany(java.util.Collection)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"getMany(Iterable<K>)","u":"getMany(java.lang.Iterable)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"getManyIdentities(I[])"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"getManyIdentities(Iterable<I>)","u":"getManyIdentities(java.lang.Iterable)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"getManyPositions(Coord[])","u":"getManyPositions(squidpony.squidmath.Coord[])"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"getManyPositions(Iterable<Coord>)","u":"getManyPositions(java.lang.Iterable)"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"getMap()"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"getMap()"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"getMappedCount()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"getMappedCount()"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"getMappedCount()"},{"p":"squidpony.panel","c":"IMarkup.StringMarkup","l":"getMarkup(String)","u":"getMarkup(java.lang.String)"},{"p":"squidpony.panel","c":"IMarkup","l":"getMarkup(T)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"getMaxKeys()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"getMaxKeys()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ILayoutConstraints","l":"getMaxKeys()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"getMaxPeak()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"getMaxRadius()"},{"p":"squidpony.squidai","c":"AOE","l":"getMaxRange()"},{"p":"squidpony.squidai","c":"BeamAOE","l":"getMaxRange()"},{"p":"squidpony.squidai","c":"BlastAOE","l":"getMaxRange()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"getMaxRange()"},{"p":"squidpony.squidai","c":"CloudAOE","l":"getMaxRange()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getMaxRange()"},{"p":"squidpony.squidai","c":"LineAOE","l":"getMaxRange()"},{"p":"squidpony.squidai","c":"PointAOE","l":"getMaxRange()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"getMaxRooms()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"getMaxRooms()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ILayoutConstraints","l":"getMaxRooms()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"getMaxSwitches()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"getMaxSwitches()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ILayoutConstraints","l":"getMaxSwitches()"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"getMaze()"},{"p":"squidpony.squidai","c":"AOE","l":"getMetric()"},{"p":"squidpony.squidai","c":"BeamAOE","l":"getMetric()"},{"p":"squidpony.squidai","c":"BlastAOE","l":"getMetric()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"getMetric()"},{"p":"squidpony.squidai","c":"CloudAOE","l":"getMetric()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getMetric()"},{"p":"squidpony.squidai","c":"LineAOE","l":"getMetric()"},{"p":"squidpony.squidai","c":"PointAOE","l":"getMetric()"},{"p":"squidpony.squidai","c":"AOE","l":"getMinRange()"},{"p":"squidpony.squidai","c":"BeamAOE","l":"getMinRange()"},{"p":"squidpony.squidai","c":"BlastAOE","l":"getMinRange()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"getMinRange()"},{"p":"squidpony.squidai","c":"CloudAOE","l":"getMinRange()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getMinRange()"},{"p":"squidpony.squidai","c":"LineAOE","l":"getMinRange()"},{"p":"squidpony.squidai","c":"PointAOE","l":"getMinRange()"},{"p":"squidpony.squidmath","c":"SquidID","l":"getMostSignificantBits()"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"getNextIndex()"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"getOrDefault(Coord, int)","u":"getOrDefault(squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"getOrDefault(Coord, V)","u":"getOrDefault(squidpony.squidmath.Coord,V)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"getOrDefault(int, int)","u":"getOrDefault(int,int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"getOrDefault(int, V)","u":"getOrDefault(int,V)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"getOrDefault(long, int)","u":"getOrDefault(long,int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"getOrderedSet(int)"},{"p":"squidpony.squidmath","c":"K2","l":"getOrderedSetA()"},{"p":"squidpony.squidmath","c":"K2","l":"getOrderedSetB()"},{"p":"squidpony.squidai","c":"AOE","l":"getOrigin()"},{"p":"squidpony.squidai","c":"BeamAOE","l":"getOrigin()"},{"p":"squidpony.squidai","c":"BlastAOE","l":"getOrigin()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"getOrigin()"},{"p":"squidpony.squidai","c":"CloudAOE","l":"getOrigin()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getOrigin()"},{"p":"squidpony.squidai","c":"LineAOE","l":"getOrigin()"},{"p":"squidpony.squidai","c":"PointAOE","l":"getOrigin()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"getPacked(Coord)","u":"getPacked(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"PathfindingService","l":"getParallelism()"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"getParallelism()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"getParent()"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"getPhysicalMap()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"getPoints()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"getPosition(I)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"getPrecond()"},{"p":"squidpony.squidmath","c":"K2V1","l":"getQAt(int)"},{"p":"squidpony.squidmath","c":"K2V1","l":"getQFromA(Object)","u":"getQFromA(java.lang.Object)"},{"p":"squidpony.squidmath","c":"K2V1","l":"getQFromB(Object)","u":"getQFromB(java.lang.Object)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"getRadius()"},{"p":"squidpony.squidai","c":"BlastAOE","l":"getRadius()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"getRadius()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getRadius()"},{"p":"squidpony.squidai","c":"LineAOE","l":"getRadius()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"getRadius()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"getRadiusKind()"},{"p":"squidpony.squidgrid","c":"LOS","l":"getRadiusStrategy()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"getRadiusTechnique()"},{"p":"squidpony.squidai","c":"BeamAOE","l":"getRadiusType()"},{"p":"squidpony.squidai","c":"BlastAOE","l":"getRadiusType()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"getRadiusType()"},{"p":"squidpony.squidai","c":"CloudAOE","l":"getRadiusType()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getRadiusType()"},{"p":"squidpony.squidai","c":"LineAOE","l":"getRadiusType()"},{"p":"squidpony","c":"IColorCenter","l":"getRandom(RNG, int)","u":"getRandom(squidpony.squidmath.RNG,int)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getRandom(RNG, int)","u":"getRandom(squidpony.squidmath.RNG,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"getRandomCell(RNG, char[][], Set<Character>, int)","u":"getRandomCell(squidpony.squidmath.RNG,char[][],java.util.Set,int)"},{"p":"squidpony.squidmath","c":"Region","l":"getRandomCoord(RNG)","u":"getRandomCoord(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"getRandomElement(Collection<T>)","u":"getRandomElement(java.util.Collection)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"getRandomElement(Collection<T>)","u":"getRandomElement(java.util.Collection)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getRandomElement(Collection<T>)","u":"getRandomElement(java.util.Collection)"},{"p":"squidpony.squidmath","c":"RNG","l":"getRandomElement(Collection<T>)","u":"getRandomElement(java.util.Collection)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"getRandomElement(List<T>)","u":"getRandomElement(java.util.List)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"getRandomElement(List<T>)","u":"getRandomElement(java.util.List)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getRandomElement(List<T>)","u":"getRandomElement(java.util.List)"},{"p":"squidpony.squidmath","c":"RNG","l":"getRandomElement(List<T>)","u":"getRandomElement(java.util.List)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"getRandomElement(RNG)","u":"getRandomElement(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"getRandomElement(ShortSet)","u":"getRandomElement(squidpony.squidmath.ShortSet)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"getRandomElement(ShortSet)","u":"getRandomElement(squidpony.squidmath.ShortSet)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getRandomElement(ShortSet)","u":"getRandomElement(squidpony.squidmath.ShortSet)"},{"p":"squidpony.squidmath","c":"RNG","l":"getRandomElement(ShortSet)","u":"getRandomElement(squidpony.squidmath.ShortSet)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"getRandomElement(T[])"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"getRandomElement(T[])"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getRandomElement(T[])"},{"p":"squidpony.squidmath","c":"RNG","l":"getRandomElement(T[])"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"getRandomness()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"getRandomness()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getRandomness()"},{"p":"squidpony.squidmath","c":"RNG","l":"getRandomness()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"getRandomStartIterable(List<T>)","u":"getRandomStartIterable(java.util.List)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"getRandomStartIterable(List<T>)","u":"getRandomStartIterable(java.util.List)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getRandomStartIterable(List<T>)","u":"getRandomStartIterable(java.util.List)"},{"p":"squidpony.squidmath","c":"RNG","l":"getRandomStartIterable(List<T>)","u":"getRandomStartIterable(java.util.List)"},{"p":"squidpony.squidmath","c":"Region","l":"getRaw()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getRawLatest()"},{"p":"squidpony.squidai","c":"AOE","l":"getReach()"},{"p":"squidpony.squidai","c":"BeamAOE","l":"getReach()"},{"p":"squidpony.squidai","c":"BlastAOE","l":"getReach()"},{"p":"squidpony.squidai","c":"BurstAOE","l":"getReach()"},{"p":"squidpony.squidai","c":"CloudAOE","l":"getReach()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getReach()"},{"p":"squidpony.squidai","c":"LineAOE","l":"getReach()"},{"p":"squidpony.squidai","c":"PointAOE","l":"getReach()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"getRebuildSeed()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"getRebuildSeed()"},{"p":"squidpony","c":"IColorCenter","l":"getRed(T)"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"getRemainingCombinations()"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"getRemainingPermutations()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"getRight()"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"getRng()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"getRoomCoords(int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"getRoomId(Coord)","u":"getRoomId(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"ILayoutGenerator","l":"getRoomLayout()"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"getRoomLayout()"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"getRooms()"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"getRooms()"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getSaturation(float, float, float)","u":"getSaturation(float,float,float)"},{"p":"squidpony","c":"IColorCenter","l":"getSaturation(T)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getSaturation(T)"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"getSeed()"},{"p":"squidpony.squidmath","c":"MultiKey","l":"getSet(int)"},{"p":"squidpony.squidmath","c":"K2","l":"getSetA()"},{"p":"squidpony.squidmath","c":"K2V1","l":"getSetA()"},{"p":"squidpony.squidmath","c":"K2","l":"getSetB()"},{"p":"squidpony.squidmath","c":"K2V1","l":"getSetB()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"getShadow(int, int, double[][])","u":"getShadow(int,int,double[][])"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"getSolutionPath()"},{"p":"squidpony.squidai","c":"ConeAOE","l":"getSpan()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"getState()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"getState()"},{"p":"squidpony.squidmath","c":"LFSR","l":"getState()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"getState()"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"getState()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"getState()"},{"p":"squidpony.squidmath","c":"StatefulRandomness","l":"getState()"},{"p":"squidpony.squidmath","c":"StatefulRNG","l":"getState()"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"getState()"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"getStatePartA()"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"getStatePartB()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"getStep()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"getSwitchState()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Edge","l":"getSymbol()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Edge","l":"getTargetRoomId()"},{"p":"squidpony.squidgrid","c":"LOS","l":"getTemplateRadius()"},{"p":"squidpony.panel","c":"IColoredString.Bucket","l":"getText()"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"getTileset()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"getTop()"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"getTotalCombinations()"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"getTotalPermutations()"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"getTotalPermutations(int)"},{"p":"squidpony","c":"IColorCenter","l":"getTransparent()"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getTransparent()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntry","l":"getValue()"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getValue(float, float, float)","u":"getValue(float,float,float)"},{"p":"squidpony","c":"IColorCenter","l":"getValue(T)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getValue(T)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"getVolume()"},{"p":"squidpony.squidai","c":"WaypointPathfinder","l":"getWaypoints()"},{"p":"squidpony","c":"IColorCenter","l":"getWhite()"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"getWhite()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"getWidth()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"getWidth()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"getWidth()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"getWidth()"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"getWidth()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"getWidth()"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"getWidth()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle","l":"getWidth()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"getWidth()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"getWidth()"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"getWidth()"},{"p":"squidpony.squidmath","c":"Coord","l":"getX()"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"getX()"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"getXMoore3D(int, int)","u":"getXMoore3D(int,int)"},{"p":"squidpony.squidmath","c":"Coord","l":"getY()"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"getY()"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"getYMoore3D(int, int)","u":"getYMoore3D(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"getZMoore3D(int, int)","u":"getZMoore3D(int,int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"GOAL"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"GOAL"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"GOAL"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"GOAL"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"goals"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"goals"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"goals"},{"p":"squidpony.squidai","c":"WaypointPathfinder","l":"goBackToPath(Coord, ArrayList<Coord>)","u":"goBackToPath(squidpony.squidmath.Coord,java.util.ArrayList)"},{"p":"squidpony","c":"FakeLanguageGen","l":"GOBLIN"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"grad2"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"grad2f"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"grad3"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"grad4"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"gradedFOV"},{"p":"squidpony","c":"IColorCenter","l":"gradient(T, T)","u":"gradient(T,T)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"gradient(T, T)","u":"gradient(T,T)"},{"p":"squidpony","c":"IColorCenter","l":"gradient(T, T, int)","u":"gradient(T,T,int)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"gradient(T, T, int)","u":"gradient(T,T,int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"gradientMap"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"gradientMap"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"gradientMap"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"gradientMap"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"graphify()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator.FillEffect","l":"GRASS"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator.FillEffect","l":"GRASS"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"grayDecode(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"grayEncode(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(boolean[], int, int)","u":"%3Cinit%3E(boolean[],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(boolean[][])","u":"%3Cinit%3E(boolean[][])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(char[][], char)","u":"%3Cinit%3E(char[][],char)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(Coord, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(double[][], double)","u":"%3Cinit%3E(double[][],double)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(double[][], double, double)","u":"%3Cinit%3E(double[][],double,double)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(double[][], double, double, int)","u":"%3Cinit%3E(double[][],double,double,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(GreasedRegion)","u":"%3Cinit%3E(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(int, int, Coord...)","u":"%3Cinit%3E(int,int,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(int, int, Iterable<Coord>)","u":"%3Cinit%3E(int,int,java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(int[][], int)","u":"%3Cinit%3E(int[][],int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(int[][], int, int)","u":"%3Cinit%3E(int[][],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(long[], int, int)","u":"%3Cinit%3E(long[],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(long[], int, int, int, int)","u":"%3Cinit%3E(long[],int,int,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(RandomnessSource, int, int)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(RNG, double, int, int)","u":"%3Cinit%3E(squidpony.squidmath.RNG,double,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(RNG, int, int)","u":"%3Cinit%3E(squidpony.squidmath.RNG,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(short[][], int, int)","u":"%3Cinit%3E(short[][],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"GreasedRegion(String[], char)","u":"%3Cinit%3E(java.lang.String[],char)"},{"p":"squidpony.squidmath","c":"MathExtras","l":"greatestCommonDivisor(long, long)","u":"greatestCommonDivisor(long,long)"},{"p":"squidpony","c":"FakeLanguageGen","l":"GREEK_AUTHENTIC"},{"p":"squidpony","c":"FakeLanguageGen","l":"GREEK_ROMANIZED"},{"p":"squidpony","c":"IColorCenter","l":"greify(T, boolean)","u":"greify(T,boolean)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"greify(T, boolean)","u":"greify(T,boolean)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"gridHeight()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"gridIsEmpty()"},{"p":"squidpony.panel","c":"ISquidPanel","l":"gridWidth()"},{"p":"squidpony.squidmath","c":"GreasedRegion.GRIterator","l":"GRIterator()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"Messaging.NounTrait","l":"GROUP"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints.Group","l":"Group(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"groups"},{"p":"squidpony.squidgrid.mapping","c":"GrowingTreeMazeGenerator","l":"GrowingTreeMazeGenerator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"GrowingTreeMazeGenerator","l":"GrowingTreeMazeGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"growthFactor()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"growthFactor()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"growthFactor(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"growthFactor(int)"},{"p":"squidpony","c":"GwtCompatibility","l":"GwtCompatibility()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.styled","c":"Maximums","l":"h"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tileset","l":"h_tiles"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"h(int, int)","u":"h(int,int)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"halton(int, int, int)","u":"halton(int,int,int)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"halton(int, int, int, int)","u":"halton(int,int,int,int)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"hasAbove()"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"hasActiveAnimations()"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"hasActiveAnimations()"},{"p":"squidpony.panel","c":"ISquidPanel","l":"hasActiveAnimations()"},{"p":"squidpony.panel","c":"ICombinedPanel.What","l":"hasBG()"},{"p":"squidpony","c":"ObText.ItemIterator","l":"hasChild()"},{"p":"squidpony.squidgrid","c":"Direction","l":"hasDown()"},{"p":"squidpony.panel","c":"ICombinedPanel.What","l":"hasFG()"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"hasGenerated()"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(char[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(char[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(char[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(char[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(char[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(char[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(char[], int, int)","u":"hash(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(char[], int, int)","u":"hash(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(char[], int, int)","u":"hash(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(char[], int, int)","u":"hash(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(char[], int, int)","u":"hash(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(char[], int, int)","u":"hash(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(char[], int, int, int)","u":"hash(char[],int,int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(char[], int, int, int)","u":"hash(char[],int,int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(char[], int, int, int)","u":"hash(char[],int,int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(char[], int, int, int)","u":"hash(char[],int,int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(CharSequence)","u":"hash(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(CharSequence)","u":"hash(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(CharSequence)","u":"hash(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(CharSequence)","u":"hash(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(CharSequence)","u":"hash(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(CharSequence)","u":"hash(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(CharSequence[])","u":"hash(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(CharSequence[])","u":"hash(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(CharSequence[])","u":"hash(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(CharSequence[])","u":"hash(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(CharSequence[])","u":"hash(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(CharSequence[])","u":"hash(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(CharSequence[]...)","u":"hash(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(CharSequence[]...)","u":"hash(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(CharSequence[]...)","u":"hash(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(CharSequence[]...)","u":"hash(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(CharSequence[]...)","u":"hash(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(CharSequence[]...)","u":"hash(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(double[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(double[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(double[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(double[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(double[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(double[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(float[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(float[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(float[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(float[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(float[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(float[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(int[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(int[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(int[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(int[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(int[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(int[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(Iterable<? extends CharSequence>)","u":"hash(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(Iterable<? extends CharSequence>)","u":"hash(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(Iterable<? extends CharSequence>)","u":"hash(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(List<? extends CharSequence>)","u":"hash(java.util.List)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(long[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(long[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(long[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(long[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(long[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(long[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(long[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(long[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(long[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(long[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(long[][])"},{"p":"squidpony.squidmath","c":"CrossHash.DefaultHasher","l":"hash(Object)","u":"hash(java.lang.Object)"},{"p":"squidpony.squidmath","c":"CrossHash.IHasher","l":"hash(Object)","u":"hash(java.lang.Object)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(Object)","u":"hash(java.lang.Object)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(Object[])","u":"hash(java.lang.Object[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(Object[])","u":"hash(java.lang.Object[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(Object[])","u":"hash(java.lang.Object[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(Object[])","u":"hash(java.lang.Object[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(Object[])","u":"hash(java.lang.Object[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"hash(short[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash(short[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash(short[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash(short[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash(short[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash(short[])"},{"p":"squidpony.squidmath","c":"IntVLA","l":"hash64()"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(boolean[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(byte[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(char[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(char[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(char[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(char[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(char[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(char[], int, int)","u":"hash64(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(char[], int, int)","u":"hash64(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(char[], int, int)","u":"hash64(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(char[], int, int)","u":"hash64(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(char[], int, int)","u":"hash64(char[],int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(char[], int, int, int)","u":"hash64(char[],int,int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(char[], int, int, int)","u":"hash64(char[],int,int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(char[], int, int, int)","u":"hash64(char[],int,int,int)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(char[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(CharSequence)","u":"hash64(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(CharSequence)","u":"hash64(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(CharSequence)","u":"hash64(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(CharSequence)","u":"hash64(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(CharSequence)","u":"hash64(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(CharSequence[])","u":"hash64(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(CharSequence[])","u":"hash64(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(CharSequence[])","u":"hash64(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(CharSequence[])","u":"hash64(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(CharSequence[])","u":"hash64(java.lang.CharSequence[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(CharSequence[]...)","u":"hash64(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(CharSequence[]...)","u":"hash64(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(CharSequence[]...)","u":"hash64(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(CharSequence[]...)","u":"hash64(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(CharSequence[]...)","u":"hash64(java.lang.CharSequence[]...)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(double[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(double[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(double[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(double[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(double[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(float[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(float[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(float[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(float[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(float[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(int[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(int[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(int[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(int[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(int[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(Iterable<? extends CharSequence>)","u":"hash64(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(Iterable<? extends CharSequence>)","u":"hash64(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(Iterable<? extends CharSequence>)","u":"hash64(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(Iterable<? extends CharSequence>)","u":"hash64(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(List<? extends CharSequence>)","u":"hash64(java.util.List)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(long[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(long[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(long[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(long[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(long[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(long[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(long[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(long[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(long[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(Object)","u":"hash64(java.lang.Object)"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(Object[])","u":"hash64(java.lang.Object[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(Object[])","u":"hash64(java.lang.Object[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(Object[])","u":"hash64(java.lang.Object[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(Object[])","u":"hash64(java.lang.Object[])"},{"p":"squidpony.squidmath","c":"CrossHash.Falcon","l":"hash64(short[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"hash64(short[])"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"hash64(short[])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"hash64(short[])"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"hash64(short[])"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"hashCode()"},{"p":"squidpony","c":"FakeLanguageGen","l":"hashCode()"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"hashCode()"},{"p":"squidpony","c":"ObText","l":"hashCode()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"hashCode()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"hashCode()"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"hashCode()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"hashCode()"},{"p":"squidpony.squidgrid","c":"SpatialMap.SpatialTriple","l":"hashCode()"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"hashCode()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"hashCode()"},{"p":"squidpony.squidmath","c":"Coord","l":"hashCode()"},{"p":"squidpony.squidmath","c":"Coord3D","l":"hashCode()"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"hashCode()"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"hashCode()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"hashCode()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"hashCode()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntry","l":"hashCode()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"hashCode()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"hashCode()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"hashCode()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"hashCode()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"hashCode()"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"LFSR","l":"hashCode()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"hashCode()"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"hashCode()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"hashCode()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"hashCode()"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"hashCode()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"hashCode()"},{"p":"squidpony.squidmath","c":"RNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"ShortSet","l":"hashCode()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"hashCode()"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"hashCode()"},{"p":"squidpony.squidmath","c":"SquidID","l":"hashCode()"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"hashCode()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"hasher"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"hasher"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"hasher"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"hashesToLines(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"hashesToLines(char[][], boolean)","u":"hashesToLines(char[][],boolean)"},{"p":"squidpony.squidgrid","c":"Direction","l":"hasLeft()"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"hasMore()"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"hasMore()"},{"p":"squidpony.squidmath","c":"ShortSet.ShortSetIterator","l":"hasNext"},{"p":"squidpony","c":"ObText.ItemIterator","l":"hasNext()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"hasNext()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"hasNext()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"hasNext()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"hasNext()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"hasNext()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"hasNext()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"hasNext()"},{"p":"squidpony.squidmath","c":"GapShuffler","l":"hasNext()"},{"p":"squidpony.squidmath","c":"GreasedRegion.GRIterator","l":"hasNext()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"hasNext()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"hasNext()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"hasPrevious()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"hasPrevious()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"hasPrevious()"},{"p":"squidpony.squidgrid","c":"Direction","l":"hasRight()"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"hasStandardCost()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Edge","l":"hasSymbol()"},{"p":"squidpony.squidgrid","c":"Direction","l":"hasUp()"},{"p":"squidpony.squidmath","c":"RNG","l":"haveNextNextGaussian"},{"p":"squidpony","c":"MonsterGen","l":"HAWK"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"headMap(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"headMap(Integer)","u":"headMap(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"headMap(K)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"headMap(K)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"headSet(IntDoubleOrderedMap.MapEntry)","u":"headSet(squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"headSet(Integer)","u":"headSet(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"headSet(K)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"headSet(K)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"headSet(K)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"headSet(Map.Entry<K, V>)","u":"headSet(java.util.Map.Entry)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"height"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"height"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"height"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"height"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"height"},{"p":"squidpony.squidai","c":"PathfindingService","l":"height"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"height"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"height"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"height"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"height"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"height"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"height"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"height"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"height"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"height"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"height"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"height"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"height"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"height"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"height"},{"p":"squidpony.squidgrid","c":"Spill","l":"height"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"height"},{"p":"squidpony.squidmath","c":"Elias.Context","l":"height"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"height"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"height"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"height"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"heightMap"},{"p":"squidpony.squidgrid.mapping","c":"HeightMapFactory","l":"heightMap(int, int, double)","u":"heightMap(int,int,double)"},{"p":"squidpony.squidgrid.mapping","c":"HeightMapFactory","l":"HeightMapFactory()","u":"%3Cinit%3E()"},{"p":"squidpony.squidai","c":"DijkstraMap.Measurement","l":"heuristic(Direction)","u":"heuristic(squidpony.squidgrid.Direction)"},{"p":"squidpony","c":"StringKit","l":"hex(byte)"},{"p":"squidpony","c":"StringKit","l":"hex(byte[])"},{"p":"squidpony","c":"StringKit","l":"hex(char)"},{"p":"squidpony","c":"StringKit","l":"hex(char[])"},{"p":"squidpony","c":"StringKit","l":"hex(int)"},{"p":"squidpony","c":"StringKit","l":"hex(int[])"},{"p":"squidpony","c":"StringKit","l":"hex(long)"},{"p":"squidpony","c":"StringKit","l":"hex(long[])"},{"p":"squidpony","c":"StringKit","l":"hex(short)"},{"p":"squidpony","c":"StringKit","l":"hex(short[])"},{"p":"squidpony","c":"StringKit","l":"hexHash(boolean...)"},{"p":"squidpony","c":"StringKit","l":"hexHash(byte...)"},{"p":"squidpony","c":"StringKit","l":"hexHash(char...)"},{"p":"squidpony","c":"StringKit","l":"hexHash(int...)"},{"p":"squidpony","c":"StringKit","l":"hexHash(long...)"},{"p":"squidpony","c":"StringKit","l":"hexHash(short...)"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"HierarchicalPathfinder(char[][], DijkstraMap.Measurement)","u":"%3Cinit%3E(char[][],squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"HierarchicalPathfinder(char[][], DijkstraMap.Measurement, int)","u":"%3Cinit%3E(char[][],squidpony.squidai.DijkstraMap.Measurement,int)"},{"p":"squidpony.squidmath","c":"SquidID","l":"high"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"hilbert3Distances"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"hilbert3X"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"hilbert3Y"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"hilbert3Z"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"hilbertDistances"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"hilbertToCoord(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"hilbertToMorton(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"hilbertX"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"hilbertY"},{"p":"squidpony","c":"FakeLanguageGen","l":"HINDI_ROMANIZED"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"HISS"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"HORIZONTAL_CORRIDORS_A"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"HORIZONTAL_CORRIDORS_B"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"HORIZONTAL_CORRIDORS_C"},{"p":"squidpony.tileset","c":"HorizontalCorridorsV1","l":"HorizontalCorridorsV1()","u":"%3Cinit%3E()"},{"p":"squidpony.tileset","c":"HorizontalCorridorsV2","l":"HorizontalCorridorsV2()","u":"%3Cinit%3E()"},{"p":"squidpony.tileset","c":"HorizontalCorridorsV3","l":"HorizontalCorridorsV3()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"MonsterGen","l":"HORSE"},{"p":"squidpony.squidai","c":"Technique","l":"id"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints.Group","l":"id"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"id"},{"p":"squidpony.squidgrid","c":"SpatialMap.SpatialTriple","l":"id"},{"p":"squidpony.squidai","c":"AOE","l":"idealLocations(Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"LineAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"PointAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"AOE","l":"idealLocations(Collection<Coord>, Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"LineAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"PointAOE","l":"idealLocations(Collection<Coord>, Collection<Coord>, Collection<Coord>)","u":"idealLocations(java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"Technique","l":"idealLocations(Coord, Collection<Coord>, Collection<Coord>)","u":"idealLocations(squidpony.squidmath.Coord,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidai","c":"Technique","l":"idealLocations(Coord, Set<Coord>, Set<Coord>, Set<Coord>)","u":"idealLocations(squidpony.squidmath.Coord,java.util.Set,java.util.Set,java.util.Set)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"identities()"},{"p":"squidpony.squidmath","c":"CrossHash","l":"identityHasher"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"identityIterator()"},{"p":"squidpony","c":"GwtCompatibility","l":"IEEEremainder(double, double)","u":"IEEEremainder(double,double)"},{"p":"squidpony","c":"ObText","l":"illegalBareWord"},{"p":"squidpony.squidai","c":"PathfindingService.Request","l":"impassable"},{"p":"squidpony.squidgrid","c":"Splash","l":"impassable"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"Impl()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"Impl(Coord, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"Impl(ISquidPanel<T>, ISquidPanel<T>, int, int)","u":"%3Cinit%3E(squidpony.panel.ISquidPanel,squidpony.panel.ISquidPanel,int,int)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"Impl(String, T)","u":"%3Cinit%3E(java.lang.String,T)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"implies(Condition)","u":"implies(squidpony.squidgrid.mapping.locks.Condition)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"implies(int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"improveQuality(int, int)","u":"improveQuality(int,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"inCircle(int, int, int, boolean, int, int)","u":"inCircle(int,int,int,boolean,int,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"inCircle(int, int, int, boolean, int, int, List<Coord>)","u":"inCircle(int,int,int,boolean,int,int,java.util.List)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"incr(int, int)","u":"incr(int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"incr(int, short)","u":"incr(int,short)"},{"p":"squidpony.squidai","c":"ZOI","l":"increasing(double[][], Coord[])","u":"increasing(double[][],squidpony.squidmath.Coord[])"},{"p":"squidpony.squidmath","c":"Dice","l":"independentRolls(int, int)","u":"independentRolls(int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache.FOVUnit","l":"index"},{"p":"squidpony.squidgrid","c":"FOVCache.LOSUnit","l":"index"},{"p":"squidpony.squidgrid","c":"FOVCache.SymmetryUnit","l":"index"},{"p":"squidpony.squidmath","c":"GreasedRegion.GRIterator","l":"index"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"indexOf(Coord)","u":"indexOf(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"indexOf(Coord)","u":"indexOf(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"indexOf(Coord)","u":"indexOf(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"indexOf(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"indexOf(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"indexOf(int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"indexOf(int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"indexOf(int, Object)","u":"indexOf(int,java.lang.Object)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"indexOf(long)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"indexOf(short)"},{"p":"squidpony.squidmath","c":"K2","l":"indexOfA(Object)","u":"indexOfA(java.lang.Object)"},{"p":"squidpony.squidmath","c":"K2V1","l":"indexOfA(Object)","u":"indexOfA(java.lang.Object)"},{"p":"squidpony.squidmath","c":"K2","l":"indexOfB(Object)","u":"indexOfB(java.lang.Object)"},{"p":"squidpony.squidmath","c":"K2V1","l":"indexOfB(Object)","u":"indexOfB(java.lang.Object)"},{"p":"squidpony.squidmath","c":"K2V1","l":"indexOfQ(Object)","u":"indexOfQ(java.lang.Object)"},{"p":"squidpony.squidgrid","c":"Radius","l":"inDiamond(int, int, int, boolean, int, int)","u":"inDiamond(int,int,int,boolean,int,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"inDiamond(int, int, int, boolean, int, int, List<Coord>)","u":"inDiamond(int,int,int,boolean,int,int,java.util.List)"},{"p":"squidpony","c":"FakeLanguageGen","l":"INFERNAL"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"init(boolean)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"initEntranceRoom(LayoutGenerator.KeyLevelRoomMapping)","u":"initEntranceRoom(squidpony.squidgrid.mapping.locks.generators.LayoutGenerator.KeyLevelRoomMapping)"},{"p":"squidpony.squidgrid","c":"Spill","l":"initialize(boolean[][])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"initialize(char[][])"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"initialize(char[][])"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"initialize(char[][])"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"initialize(char[][])"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"initialize(char[][])"},{"p":"squidpony.squidgrid","c":"Spill","l":"initialize(char[][])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"initialize(char[][], char)","u":"initialize(char[][],char)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"initialize(char[][], char)","u":"initialize(char[][],char)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"initialize(char[][], char)","u":"initialize(char[][],char)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"initialize(char[][], char)","u":"initialize(char[][],char)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"initialize(char[][], char)","u":"initialize(char[][],char)"},{"p":"squidpony.squidgrid","c":"Spill","l":"initialize(char[][], char)","u":"initialize(char[][],char)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"initialize(double[])"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"initialize(double[][])"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"initialize(double[][])"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"initialize(double[][])"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"initialize(short[][])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"initializeCost(char[][])"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"initializeCost(char[][])"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"initializeCost(char[][], char)","u":"initializeCost(char[][],char)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"initializeCost(double[][])"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"initializeCost(double[][])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"initializeCost(int[])"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"initialRooms()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"initialRooms()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ILayoutConstraints","l":"initialRooms()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceConstraints","l":"initialRooms()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"inLevel(char[][], Coord)","u":"inLevel(char[][],squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"inLevel(char[][], int, int)","u":"inLevel(char[][],int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"inLevel(double[][], Coord)","u":"inLevel(double[][],squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"inLevel(double[][], int, int)","u":"inLevel(double[][],int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"inLevel(T[][], Coord)","u":"inLevel(T[][],squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"inLevel(T[][], int, int)","u":"inLevel(T[][],int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"innerGenerate()"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"innerGenerate()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"innerGenerate(char[][], EnumMap<SectionDungeonGenerator.FillEffect, Integer>)","u":"innerGenerate(char[][],java.util.EnumMap)"},{"p":"squidpony.squidgrid","c":"Radius","l":"inRange(int, int, int, int, int, int)","u":"inRange(int,int,int,int,int,int)"},{"p":"squidpony","c":"ArrayTools","l":"insert(boolean[][], boolean[][], int, int)","u":"insert(boolean[][],boolean[][],int,int)"},{"p":"squidpony","c":"ArrayTools","l":"insert(char[][], char[][], int, int)","u":"insert(char[][],char[][],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"insert(Coord)","u":"insert(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"insert(Coord)","u":"insert(squidpony.squidmath.Coord)"},{"p":"squidpony","c":"ArrayTools","l":"insert(double[][], double[][], int, int)","u":"insert(double[][],double[][],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"insert(int, int)","u":"insert(int,int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"insert(int, int)","u":"insert(int,int)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"insert(int, int)","u":"insert(int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"insert(int, int, GreasedRegion)","u":"insert(int,int,squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"insert(int, int, GreasedRegion)","u":"insert(int,int,squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"insert(int, short)","u":"insert(int,short)"},{"p":"squidpony","c":"ArrayTools","l":"insert(int[][], int[][], int, int)","u":"insert(int[][],int[][],int,int)"},{"p":"squidpony","c":"GwtCompatibility","l":"insert2D(boolean[][], boolean[][], int, int)","u":"insert2D(boolean[][],boolean[][],int,int)"},{"p":"squidpony","c":"GwtCompatibility","l":"insert2D(char[][], char[][], int, int)","u":"insert2D(char[][],char[][],int,int)"},{"p":"squidpony","c":"GwtCompatibility","l":"insert2D(double[][], double[][], int, int)","u":"insert2D(double[][],double[][],int,int)"},{"p":"squidpony","c":"GwtCompatibility","l":"insert2D(int[][], int[][], int, int)","u":"insert2D(int[][],int[][],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"insertCircle(Coord, int)","u":"insertCircle(squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"insertPacked(short[], int, int)","u":"insertPacked(short[],int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"insertPacked(short[], short)","u":"insertPacked(short[],short)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"insertRectangle(int, int, int, int)","u":"insertRectangle(int,int,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"insertSeveral(Coord...)","u":"insertSeveral(squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"insertSeveral(Coord...)","u":"insertSeveral(squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"insertSeveral(Iterable<Coord>)","u":"insertSeveral(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"insertSeveralPacked(short[], Collection<Coord>)","u":"insertSeveralPacked(short[],java.util.Collection)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"insertSeveralPacked(short[], Coord...)","u":"insertSeveralPacked(short[],squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"insertSeveralPacked(short[], int...)","u":"insertSeveralPacked(short[],int...)"},{"p":"squidpony.squidgrid","c":"Radius","l":"inSquare(int, int, int, boolean, int, int)","u":"inSquare(int,int,int,boolean,int,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"inSquare(int, int, int, boolean, int, int, List<Coord>)","u":"inSquare(int,int,int,boolean,int,int,java.util.List)"},{"p":"squidpony.tileset","c":"CavesLimitConnectivity","l":"INSTANCE"},{"p":"squidpony.tileset","c":"CavesTinyCorridors","l":"INSTANCE"},{"p":"squidpony.tileset","c":"CornerCaves","l":"INSTANCE"},{"p":"squidpony.tileset","c":"DefaultDungeon","l":"INSTANCE"},{"p":"squidpony.tileset","c":"HorizontalCorridorsV1","l":"INSTANCE"},{"p":"squidpony.tileset","c":"HorizontalCorridorsV2","l":"INSTANCE"},{"p":"squidpony.tileset","c":"HorizontalCorridorsV3","l":"INSTANCE"},{"p":"squidpony.tileset","c":"LimitConnectivityFat","l":"INSTANCE"},{"p":"squidpony.tileset","c":"LimitedConnectivity","l":"INSTANCE"},{"p":"squidpony.tileset","c":"Maze2Wide","l":"INSTANCE"},{"p":"squidpony.tileset","c":"MazePlus2Wide","l":"INSTANCE"},{"p":"squidpony.tileset","c":"OpenAreas","l":"INSTANCE"},{"p":"squidpony.tileset","c":"Ref2CornerCaves","l":"INSTANCE"},{"p":"squidpony.tileset","c":"RoomsAndCorridors","l":"INSTANCE"},{"p":"squidpony.tileset","c":"RoomsAndCorridors2WideDiagonalBias","l":"INSTANCE"},{"p":"squidpony.tileset","c":"RoomsLimitConnectivity","l":"INSTANCE"},{"p":"squidpony.tileset","c":"RoundRoomsDiagonalCorridors","l":"INSTANCE"},{"p":"squidpony.tileset","c":"SimpleCaves2Wide","l":"INSTANCE"},{"p":"squidpony.tileset","c":"SquareRoomsWithRandomRects","l":"INSTANCE"},{"p":"squidpony.squidmath","c":"IntDoubleHeap","l":"IntDoubleHeap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntDoubleHeap","l":"IntDoubleHeap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"IntDoubleOrderedMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"IntDoubleOrderedMap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"IntDoubleOrderedMap(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"IntDoubleOrderedMap(int[], double[])","u":"%3Cinit%3E(int[],double[])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"IntDoubleOrderedMap(int[], double[], float)","u":"%3Cinit%3E(int[],double[],float)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"IntDoubleOrderedMap(IntDoubleOrderedMap)","u":"%3Cinit%3E(squidpony.squidmath.IntDoubleOrderedMap)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"IntDoubleOrderedMap(IntDoubleOrderedMap, float)","u":"%3Cinit%3E(squidpony.squidmath.IntDoubleOrderedMap,float)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"IntDoubleOrderedMap(Map<? extends Integer, ? extends Double>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"IntDoubleOrderedMap(Map<? extends Integer, ? extends Double>, float)","u":"%3Cinit%3E(java.util.Map,float)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"intensity"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"INTENSITY_COMPARATOR"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"INTENSITY_EASE_OFF"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"INTENSITY_GROWTH_JITTER"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"intersect(PackedChunks)","u":"intersect(squidpony.squidmath.PackedChunks)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"intersectMany(short[]...)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"intersectPacked(short[], short[])","u":"intersectPacked(short[],short[])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"intersects(GreasedRegion)","u":"intersects(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"intersects(short[], short[])","u":"intersects(short[],short[])"},{"p":"squidpony.squidmath","c":"CrossHash","l":"intHasher"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"IntIntOrderedMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"IntIntOrderedMap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"IntIntOrderedMap(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"IntIntOrderedMap(int[], int[])","u":"%3Cinit%3E(int[],int[])"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"IntIntOrderedMap(int[], int[], float)","u":"%3Cinit%3E(int[],int[],float)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"IntIntOrderedMap(IntIntOrderedMap)","u":"%3Cinit%3E(squidpony.squidmath.IntIntOrderedMap)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"IntIntOrderedMap(IntIntOrderedMap, float)","u":"%3Cinit%3E(squidpony.squidmath.IntIntOrderedMap,float)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"IntObjectOrderedMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"IntObjectOrderedMap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"IntObjectOrderedMap(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"IntObjectOrderedMap(int[], V[])","u":"%3Cinit%3E(int[],V[])"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"IntObjectOrderedMap(int[], V[], float)","u":"%3Cinit%3E(int[],V[],float)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"IntObjectOrderedMap(IntObjectOrderedMap<? extends V>)","u":"%3Cinit%3E(squidpony.squidmath.IntObjectOrderedMap)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"IntObjectOrderedMap(IntObjectOrderedMap<? extends V>, float)","u":"%3Cinit%3E(squidpony.squidmath.IntObjectOrderedMap,float)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"IntOrderedSet()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"IntOrderedSet(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"IntOrderedSet(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"IntOrderedSet(int[])","u":"%3Cinit%3E(int[])"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"IntOrderedSet(IntOrderedSet)","u":"%3Cinit%3E(squidpony.squidmath.IntOrderedSet)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"IntVLA()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"IntVLA(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"IntVLA(int[])","u":"%3Cinit%3E(int[])"},{"p":"squidpony.squidmath","c":"IntVLA","l":"IntVLA(int[], int, int)","u":"%3Cinit%3E(int[],int,int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"IntVLA(IntVLA)","u":"%3Cinit%3E(squidpony.squidmath.IntVLA)"},{"p":"squidpony","c":"FakeLanguageGen","l":"INUKTITUT"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition.SwitchState","l":"invert()"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"invertAdjacent"},{"p":"squidpony","c":"ArrayTools","l":"invertOrdering(int[])"},{"p":"squidpony","c":"GwtCompatibility","l":"invertOrdering(int[])"},{"p":"squidpony","c":"ArrayTools","l":"invertOrdering(int[], int[])","u":"invertOrdering(int[],int[])"},{"p":"squidpony","c":"GwtCompatibility","l":"invertOrdering(int[], int[])","u":"invertOrdering(int[],int[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"iota"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"iota"},{"p":"squidpony.squidgrid.mapping.styled","c":"Config","l":"is_corner"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"IsaacRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"IsaacRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"IsaacRNG(long[])","u":"%3Cinit%3E(long[])"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"IsaacRNG(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"isAcceptable(IRoomLayout)","u":"isAcceptable(squidpony.squidgrid.mapping.locks.IRoomLayout)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"isAcceptable(IRoomLayout)","u":"isAcceptable(squidpony.squidgrid.mapping.locks.IRoomLayout)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ILayoutConstraints","l":"isAcceptable(IRoomLayout)","u":"isAcceptable(squidpony.squidgrid.mapping.locks.IRoomLayout)"},{"p":"squidpony.squidmath","c":"Coord","l":"isAdjacent(Coord)","u":"isAdjacent(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"isBlocked(int, int)","u":"isBlocked(int,int)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"isBlocked(int, int, int[][][], double[], double)","u":"isBlocked(int,int,int[][][],double[],double)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"isBlocked(int, int, int[][][], double[], double)","u":"isBlocked(int,int,int[][][],double[],double)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"isBlocked(int, int, int[][][], double[], double)","u":"isBlocked(int,int,int[][][],double[],double)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"isBoss()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"isBoss(int)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"isBossRoomLocked()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"isBucketScan()"},{"p":"squidpony.squidgrid","c":"Direction","l":"isCardinal()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"isCellVisible(int, int, int, int, int)","u":"isCellVisible(int,int,int,int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"isConnected()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"isConnected()"},{"p":"squidpony.squidgrid","c":"Direction","l":"isDiagonal()"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"isEmpty()"},{"p":"squidpony.panel","c":"IColoredString","l":"isEmpty()"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"isEmpty()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"isEmpty()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"isEmpty()"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"isEmpty()"},{"p":"squidpony.squidgrid.zone","c":"ListZone","l":"isEmpty()"},{"p":"squidpony.squidgrid.zone","c":"Zone","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"K2","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"K2V1","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"MultiKey","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"Region","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"isEmpty()"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"isEmpty(short[])"},{"p":"squidpony.squidai","c":"CloudAOE","l":"isExpanding()"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"isFloor(char)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"isGenerateGoal()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"isGoal()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"isGoal(int)"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"isInDungeon(Coord)","u":"isInDungeon(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"isInGrid(int, int)","u":"isInGrid(int,int)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"isInGrid(int, int)","u":"isInGrid(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator.FillEffect","l":"ISLANDS"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator.FillEffect","l":"ISLANDS"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"isNothing(int)"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"isPassable(int, int)","u":"isPassable(int,int)"},{"p":"squidpony.squidgrid","c":"LOS","l":"isReachable(char[][], int, int, int, int)","u":"isReachable(char[][],int,int,int,int)"},{"p":"squidpony.squidgrid","c":"LOS","l":"isReachable(char[][], int, int, int, int, Radius)","u":"isReachable(char[][],int,int,int,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid","c":"LOS","l":"isReachable(double[][], int, int, int, int)","u":"isReachable(double[][],int,int,int,int)"},{"p":"squidpony.squidgrid","c":"LOS","l":"isReachable(double[][], int, int, int, int, Radius)","u":"isReachable(double[][],int,int,int,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"isStart()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"isStart(int)"},{"p":"squidpony","c":"Maker","l":"issueLog"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"isSwitch()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"isSwitch(int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"isSwitchState(int)"},{"p":"squidpony.squidmath","c":"Coord","l":"isWithin(int, int)","u":"isWithin(int,int)"},{"p":"squidpony.squidmath","c":"Coord","l":"isWithinRectangle(int, int, int, int)","u":"isWithinRectangle(int,int,int,int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"item"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"itemCount"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"itemMapping"},{"p":"squidpony.squidmath","c":"IntDoubleHeap","l":"items"},{"p":"squidpony.squidmath","c":"IntVLA","l":"items"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"items"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"items()"},{"p":"squidpony","c":"ObText","l":"iterator()"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"iterator()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"iterator()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"iterator()"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"iterator()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueCollection","l":"iterator()"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"iterator()"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"iterator()"},{"p":"squidpony.squidmath","c":"GapShuffler","l":"iterator()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"iterator()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"iterator()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"iterator()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"iterator()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"iterator()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"iterator()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueCollection","l":"iterator()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"iterator()"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"iterator()"},{"p":"squidpony.squidmath","c":"ShortSet","l":"iterator()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"iterator()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"iterator(int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"iterator(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"iterator(IntDoubleOrderedMap.MapEntry)","u":"iterator(squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"K2","l":"iteratorA()"},{"p":"squidpony.squidmath","c":"K2V1","l":"iteratorA()"},{"p":"squidpony.squidmath","c":"K2","l":"iteratorB()"},{"p":"squidpony.squidmath","c":"K2V1","l":"iteratorB()"},{"p":"squidpony.squidmath","c":"K2V1","l":"iteratorQ()"},{"p":"squidpony","c":"Messaging.NounTrait","l":"iText()"},{"p":"squidpony","c":"FakeLanguageGen","l":"JAPANESE_ROMANIZED"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"JavaRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"JavaRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"JavaRNG(Random)","u":"%3Cinit%3E(java.util.Random)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, boolean...)","u":"join(java.lang.CharSequence,boolean...)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, byte...)","u":"join(java.lang.CharSequence,byte...)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, char...)","u":"join(java.lang.CharSequence,char...)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, CharSequence...)","u":"join(java.lang.CharSequence,java.lang.CharSequence...)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, Collection<? extends CharSequence>)","u":"join(java.lang.CharSequence,java.util.Collection)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, double...)","u":"join(java.lang.CharSequence,double...)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, float...)","u":"join(java.lang.CharSequence,float...)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, int...)","u":"join(java.lang.CharSequence,int...)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, long...)","u":"join(java.lang.CharSequence,long...)"},{"p":"squidpony","c":"StringKit","l":"join(CharSequence, short...)","u":"join(java.lang.CharSequence,short...)"},{"p":"squidpony","c":"StringKit","l":"joinArrays(CharSequence, char[]...)","u":"joinArrays(java.lang.CharSequence,char[]...)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"jumble"},{"p":"squidpony.squidmath","c":"AStarSearch.SearchType","l":"JUMP_POINT"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"jump()"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"jumpPath(Coord, Coord)","u":"jumpPath(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"justify(int)"},{"p":"squidpony.panel","c":"IColoredString","l":"justify(int)"},{"p":"squidpony.squidmath","c":"K2","l":"K2()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"K2","l":"K2(Arrangement<A>, Arrangement<B>)","u":"%3Cinit%3E(squidpony.squidmath.Arrangement,squidpony.squidmath.Arrangement)"},{"p":"squidpony.squidmath","c":"K2","l":"K2(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"K2","l":"K2(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"K2","l":"K2(Iterable<A>, Iterable<B>)","u":"%3Cinit%3E(java.lang.Iterable,java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"K2","l":"K2(K2<A, B>)","u":"%3Cinit%3E(squidpony.squidmath.K2)"},{"p":"squidpony.squidmath","c":"K2V1","l":"K2V1()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"K2V1","l":"K2V1(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"K2V1","l":"K2V1(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"K2V1","l":"K2V1(Iterable<A>, Iterable<B>, Iterable<Q>)","u":"%3Cinit%3E(java.lang.Iterable,java.lang.Iterable,java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"K2V1","l":"K2V1(K2V1<A, B, Q>)","u":"%3Cinit%3E(squidpony.squidmath.K2V1)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"kappa"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"kappa"},{"p":"squidpony.squidmath","c":"Arrangement","l":"key"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"key"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"key"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"key"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"key"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"key"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"key"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"key"},{"p":"squidpony.squidmath","c":"Arrangement","l":"keyAt(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"keyAt(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"keyAt(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"keyAt(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"keyAt(int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"keyCount"},{"p":"squidpony.squidmath","c":"K2","l":"keyCount()"},{"p":"squidpony.squidmath","c":"K2V1","l":"keyCount()"},{"p":"squidpony.squidmath","c":"MultiKey","l":"keyCount()"},{"p":"squidpony.squidmath","c":"Arrangement.KeyIterator","l":"KeyIterator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"KeyIterator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeyIterator","l":"KeyIterator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"KeyIterator(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"keyLevel"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator.KeyLevelRoomMapping","l":"KeyLevelRoomMapping()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"keys"},{"p":"squidpony.squidmath","c":"IntDoubleHeap","l":"keys"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"keys"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"keys"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"keysAsArray()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"keysAsArray()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"keysAsArray()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"keysAsOrderedSet()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"keysAsOrderedSet()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"keysAt(int...)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"keysAt(IntVLA)","u":"keysAt(squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"keySet()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"keySet()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"keySet()"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"KeySet()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"KeySet()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"KeySet()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"label()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"label8way()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"lakeFX"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"lambda"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"lambda"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"lanes"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"LanesMapGenerator(int, int, RNG, int)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,int)"},{"p":"squidpony","c":"LanguageCipher","l":"language"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"language"},{"p":"squidpony","c":"LanguageCipher","l":"LanguageCipher()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"LanguageCipher","l":"LanguageCipher(FakeLanguageGen)","u":"%3Cinit%3E(squidpony.FakeLanguageGen)"},{"p":"squidpony","c":"LanguageCipher","l":"LanguageCipher(FakeLanguageGen, long)","u":"%3Cinit%3E(squidpony.FakeLanguageGen,long)"},{"p":"squidpony","c":"LanguageCipher","l":"LanguageCipher(LanguageCipher)","u":"%3Cinit%3E(squidpony.LanguageCipher)"},{"p":"squidpony","c":"Thesaurus","l":"languages"},{"p":"squidpony.squidmath","c":"Arrangement","l":"last"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"last"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"last"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"last"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"last()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"last()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"last()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"last()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"last()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"last()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"last()"},{"p":"squidpony.squidgrid","c":"FOV","l":"lastBuffer"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"lastColor()"},{"p":"squidpony.panel","c":"IColoredString","l":"lastColor()"},{"p":"squidpony.squidgrid","c":"FOV","l":"lastHeight"},{"p":"squidpony.squidmath","c":"IntVLA","l":"lastIndexOf(int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"lastIndexOf(short)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"lastInt()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"lastIntKey()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"lastKey()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"lastKey()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"lastKey()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"lastKey()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"lastKey()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"lastKey()"},{"p":"squidpony.squidgrid","c":"FOV","l":"lastMaxX"},{"p":"squidpony.squidgrid","c":"FOV","l":"lastMaxY"},{"p":"squidpony.squidgrid","c":"FOV","l":"lastMinX"},{"p":"squidpony.squidgrid","c":"FOV","l":"lastMinY"},{"p":"squidpony.squidgrid","c":"FOV","l":"lastWidth"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"layout"},{"p":"squidpony","c":"SquidTags","l":"LAYOUT"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"LayoutGenerator(RNG, ILayoutConstraints)","u":"%3Cinit%3E(squidpony.squidmath.RNG,squidpony.squidgrid.mapping.locks.constraints.ILayoutConstraints)"},{"p":"squidpony","c":"Messaging","l":"learnIrregularWord(String, String, String, String, String, String, String)","u":"learnIrregularWord(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"squidpony","c":"LanguageCipher","l":"learnTranslation(Map<String, String>, String)","u":"learnTranslation(java.util.Map,java.lang.String)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"learnTranslation(Map<String, String>, String)","u":"learnTranslation(java.util.Map,java.lang.String)"},{"p":"squidpony","c":"LanguageCipher","l":"learnTranslations(Map<String, String>, Iterable<String>)","u":"learnTranslations(java.util.Map,java.lang.Iterable)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"learnTranslations(Map<String, String>, Iterable<String>)","u":"learnTranslations(java.util.Map,java.lang.Iterable)"},{"p":"squidpony","c":"LanguageCipher","l":"learnTranslations(Map<String, String>, String...)","u":"learnTranslations(java.util.Map,java.lang.String...)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"learnTranslations(Map<String, String>, String...)","u":"learnTranslations(java.util.Map,java.lang.String...)"},{"p":"squidpony.squidgrid","c":"Direction","l":"LEFT"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"left()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Left","l":"Left(int, int, int, int)","u":"%3Cinit%3E(int,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"leftDoors"},{"p":"squidpony.squidai","c":"PathfindingService.Request","l":"length"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"length()"},{"p":"squidpony.panel","c":"IColoredString","l":"length()"},{"p":"squidpony","c":"IColorCenter","l":"lerp(T, T, float)","u":"lerp(T,T,float)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"lerp(T, T, float)","u":"lerp(T,T,float)"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"lessRooms"},{"p":"squidpony","c":"ArrayTools","l":"letterAt(int)"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"letters"},{"p":"squidpony","c":"ArrayTools","l":"letterSpan(int)"},{"p":"squidpony","c":"GwtCompatibility","l":"letterSpan(int)"},{"p":"squidpony.squidmath","c":"LFSR","l":"LFSR()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"LFSR","l":"LFSR(CharSequence)","u":"%3Cinit%3E(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"LFSR","l":"LFSR(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidgrid","c":"FOV","l":"light"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"lightBrightnesses"},{"p":"squidpony.squidmath","c":"Elias.Context","l":"lightMap"},{"p":"squidpony.squidmath","c":"Elias","l":"lightMap(double, double, double, double)","u":"lightMap(double,double,double,double)"},{"p":"squidpony.squidmath","c":"CrossHash.Lightning","l":"Lightning()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"LightRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"LightRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"lights"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"lightSources"},{"p":"squidpony.squidai","c":"Reach","l":"limit"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"limit"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"LIMIT_CONNECTIVITY_FAT"},{"p":"squidpony.tileset","c":"LimitConnectivityFat","l":"LimitConnectivityFat()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"LIMITED_CONNECTIVITY"},{"p":"squidpony.tileset","c":"LimitedConnectivity","l":"LimitedConnectivity()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"DDALine","l":"line_(Coord, Coord)","u":"line_(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"OrthoLine","l":"line_(Coord, Coord)","u":"line_(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"DDALine","l":"line_(int, int, int, int)","u":"line_(int,int,int,int)"},{"p":"squidpony.squidmath","c":"OrthoLine","l":"line_(int, int, int, int)","u":"line_(int,int,int,int)"},{"p":"squidpony.squidmath","c":"DDALine","l":"line_(int, int, int, int, int, int)","u":"line_(int,int,int,int,int,int)"},{"p":"squidpony.squidmath","c":"DDALine","l":"line(Coord, Coord)","u":"line(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Elias","l":"line(Coord, Coord)","u":"line(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"OrthoLine","l":"line(Coord, Coord)","u":"line(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Elias","l":"line(Coord, Coord, double)","u":"line(squidpony.squidmath.Coord,squidpony.squidmath.Coord,double)"},{"p":"squidpony.squidmath","c":"WobblyLine","l":"line(Coord, Coord, int, int)","u":"line(squidpony.squidmath.Coord,squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.squidmath","c":"Elias","l":"line(double, double, double, double)","u":"line(double,double,double,double)"},{"p":"squidpony.squidmath","c":"Elias","l":"line(double, double, double, double, double)","u":"line(double,double,double,double,double)"},{"p":"squidpony.squidmath","c":"Elias","l":"line(double, double, double, double, Elias.Context)","u":"line(double,double,double,double,squidpony.squidmath.Elias.Context)"},{"p":"squidpony.squidmath","c":"DDALine","l":"line(int, int, int, int)","u":"line(int,int,int,int)"},{"p":"squidpony.squidmath","c":"OrthoLine","l":"line(int, int, int, int)","u":"line(int,int,int,int)"},{"p":"squidpony.squidmath","c":"DDALine","l":"line(int, int, int, int, int, int)","u":"line(int,int,int,int,int,int)"},{"p":"squidpony.squidmath","c":"WobblyLine","l":"line(int, int, int, int, int, int)","u":"line(int,int,int,int,int,int)"},{"p":"squidpony.squidmath","c":"WobblyLine","l":"line(int, int, int, int, int, int, double, RNG)","u":"line(int,int,int,int,int,int,double,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"Bresenham","l":"line2D_(Coord, Coord)","u":"line2D_(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Bresenham","l":"line2D_(int, int, int, int)","u":"line2D_(int,int,int,int)"},{"p":"squidpony.squidmath","c":"Bresenham","l":"line2D(Coord, Coord)","u":"line2D(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Bresenham","l":"line2D(int, int, int, int)","u":"line2D(int,int,int,int)"},{"p":"squidpony.squidmath","c":"Bresenham","l":"line3D(Coord3D, Coord3D)","u":"line3D(squidpony.squidmath.Coord3D,squidpony.squidmath.Coord3D)"},{"p":"squidpony.squidmath","c":"Bresenham","l":"line3D(int, int, int, int, int, int)","u":"line3D(int,int,int,int,int,int)"},{"p":"squidpony.squidai","c":"LineAOE","l":"LineAOE(Coord, Coord)","u":"%3Cinit%3E(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"LineAOE","l":"LineAOE(Coord, Coord, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidai","c":"LineAOE","l":"LineAOE(Coord, Coord, int, Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord,squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"LineAOE","l":"LineAOE(Coord, Coord, int, Radius, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,squidpony.squidmath.Coord,int,squidpony.squidgrid.Radius,int,int)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"Linear()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"Linear(Direction, int, int, int, int)","u":"%3Cinit%3E(squidpony.squidgrid.Direction,int,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"linesToHashes(char[][])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"link"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"link(Room, Room)","u":"link(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"link(Room, Room)","u":"link(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"link(Room, Room, int)","u":"link(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room,int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"link(Room, Room, int)","u":"link(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room,int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"linkCount()"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"linkOneWay(Room, Room)","u":"linkOneWay(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"linkOneWay(Room, Room)","u":"linkOneWay(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"linkOneWay(Room, Room, int)","u":"linkOneWay(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room,int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"linkOneWay(Room, Room, int)","u":"linkOneWay(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room,int)"},{"p":"squidpony","c":"MonsterGen","l":"LION"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"LIQUID"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"LISP"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"listToMap(List<Coord>)","u":"listToMap(java.util.List)"},{"p":"squidpony.squidgrid.zone","c":"ListZone","l":"ListZone(Collection<Coord>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"squidpony.squidgrid.zone","c":"ListZone","l":"ListZone(List<Coord>)","u":"%3Cinit%3E(java.util.List)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"loadCache(File, char[][], int)","u":"loadCache(java.io.File,char[][],int)"},{"p":"squidpony.squidmath","c":"MathExtras","l":"log(double, double)","u":"log(double,double)"},{"p":"squidpony","c":"StringKit","l":"longFromBin(CharSequence)","u":"longFromBin(java.lang.CharSequence)"},{"p":"squidpony","c":"StringKit","l":"longFromBin(CharSequence, int, int)","u":"longFromBin(java.lang.CharSequence,int,int)"},{"p":"squidpony","c":"StringKit","l":"longFromHex(CharSequence)","u":"longFromHex(java.lang.CharSequence)"},{"p":"squidpony","c":"StringKit","l":"longFromHex(CharSequence, int, int)","u":"longFromHex(java.lang.CharSequence,int,int)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"longHasher"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"LongIntOrderedMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"LongIntOrderedMap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"LongIntOrderedMap(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"LongIntOrderedMap(long[], int[])","u":"%3Cinit%3E(long[],int[])"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"LongIntOrderedMap(long[], int[], float)","u":"%3Cinit%3E(long[],int[],float)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"LongIntOrderedMap(LongIntOrderedMap)","u":"%3Cinit%3E(squidpony.squidmath.LongIntOrderedMap)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"LongIntOrderedMap(LongIntOrderedMap, float)","u":"%3Cinit%3E(squidpony.squidmath.LongIntOrderedMap,float)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"LongPeriodRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"LongPeriodRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"LongPeriodRNG(long[])","u":"%3Cinit%3E(long[])"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"LongPeriodRNG(LongPeriodRNG)","u":"%3Cinit%3E(squidpony.squidmath.LongPeriodRNG)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"LongPeriodRNG(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony","c":"LanguageCipher","l":"lookup(String)","u":"lookup(java.lang.String)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"lookup(String)","u":"lookup(java.lang.String)"},{"p":"squidpony","c":"Thesaurus","l":"lookup(String)","u":"lookup(java.lang.String)"},{"p":"squidpony.squidgrid","c":"LOS","l":"LOS()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"LOS","l":"LOS(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidgrid","c":"LOS","l":"LOS(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"losCache"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"losEntry(int)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"LOSIndex(double[][])","u":"%3Cinit%3E(double[][])"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"LOSIndex(double[][], double, Radius)","u":"%3Cinit%3E(double[][],double,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"LOSIndex(GreasedRegion, double, Radius)","u":"%3Cinit%3E(squidpony.squidmath.GreasedRegion,double,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid","c":"FOVCache.LOSUnit","l":"LOSUnit(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony","c":"FakeLanguageGen","l":"LOVECRAFT"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"LOVECRAFT_MYTHOS_NAMES"},{"p":"squidpony.squidmath","c":"SquidID","l":"low"},{"p":"squidpony.squidgrid","c":"Spill","l":"lrng"},{"p":"squidpony","c":"ObText","l":"m"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"mainForm"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"makeBiomeMap()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"makeDoors(ArrayList<char[][]>, ArrayList<char[][]>, char[][], char[][])","u":"makeDoors(java.util.ArrayList,java.util.ArrayList,char[][],char[][])"},{"p":"squidpony.squidmath","c":"Coord","l":"makeEven()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"makeHeightMap()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"makeLake(ArrayList<char[][]>, ArrayList<char[][]>)","u":"makeLake(java.util.ArrayList,java.util.ArrayList)"},{"p":"squidpony","c":"Maker","l":"makeLHM()"},{"p":"squidpony","c":"Maker","l":"makeLHM(K, V, Object...)","u":"makeLHM(K,V,java.lang.Object...)"},{"p":"squidpony","c":"Maker","l":"makeLHS(T...)"},{"p":"squidpony","c":"Maker","l":"makeList(T...)"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"makeNationMap()"},{"p":"squidpony","c":"Thesaurus","l":"makeNationName()"},{"p":"squidpony.squidmath","c":"Coord","l":"makeOdd()"},{"p":"squidpony","c":"Maker","l":"makeOM()"},{"p":"squidpony","c":"Maker","l":"makeOM(float, K, V, Object...)","u":"makeOM(float,K,V,java.lang.Object...)"},{"p":"squidpony","c":"Maker","l":"makeOM(K, V, Object...)","u":"makeOM(K,V,java.lang.Object...)"},{"p":"squidpony","c":"Maker","l":"makeOS(T...)"},{"p":"squidpony","c":"Maker","l":"Maker()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"makeThin()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"makeWeightedMap()"},{"p":"squidpony","c":"Messaging.NounTrait","l":"MALE_GENDER"},{"p":"squidpony.squidai","c":"DijkstraMap.Measurement","l":"MANHATTAN"},{"p":"squidpony.squidgrid","c":"SoundMap.Measurement","l":"MANHATTAN"},{"p":"squidpony.squidgrid","c":"Spill.Measurement","l":"MANHATTAN"},{"p":"squidpony.squidmath","c":"AStarSearch.SearchType","l":"MANHATTAN"},{"p":"squidpony.squidmath","c":"Coord3D","l":"manhattanDistance(Coord3D)","u":"manhattanDistance(squidpony.squidmath.Coord3D)"},{"p":"squidpony.squidgrid","c":"BevelFOV","l":"map"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"map"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"map"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator.KeyLevelRoomMapping","l":"map"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"map"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"map"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"map"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"map"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"map"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"map"},{"p":"squidpony.squidmath","c":"Arrangement","l":"mapEntrySet()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"mapEntrySet()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"mapEntrySet()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"MapEntrySet()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"MapEntrySet()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"mapLimit"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"MapModule()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"MapModule(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"MapModule(char[][], Coord[], Coord, Coord)","u":"%3Cinit%3E(char[][],squidpony.squidmath.Coord[],squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"MapModule(MapModule)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.MapModule)"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"MapModule(short[], int, int)","u":"%3Cinit%3E(short[],int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"mappedData"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"mappedStarts"},{"p":"squidpony","c":"Thesaurus","l":"mappings"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"mapToSample(char[][], char...)","u":"mapToSample(char[][],char...)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"mark(Coord)","u":"mark(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"mark(int, int)","u":"mark(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"mark(int, int)","u":"mark(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"marked"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"markEnvironment(int, int, int)","u":"markEnvironment(int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"markEnvironment(int, int, int)","u":"markEnvironment(int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"markEnvironmentCave(int, int)","u":"markEnvironmentCave(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"markEnvironmentCorridor(int, int)","u":"markEnvironmentCorridor(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"markEnvironmentRoom(int, int)","u":"markEnvironmentRoom(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"markEnvironmentWalls()"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"markPiercing(Coord)","u":"markPiercing(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"markPiercing(int, int)","u":"markPiercing(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"markPiercing(int, int)","u":"markPiercing(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"markPiercingCave(Coord)","u":"markPiercingCave(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"markPiercingRoom(int, int)","u":"markPiercingRoom(int,int)"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"markSample(boolean[][], Iterable<Coord>)","u":"markSample(boolean[][],java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"mask"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"mask"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"mask"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"mask"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"mask"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"mask"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"mask"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"mask"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"mask(char[][], char)","u":"mask(char[][],char)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mask(char[][], short[], char)","u":"mask(char[][],short[],char)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"mask(short[][], short)","u":"mask(short[][],short)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"matrix"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"max"},{"p":"squidpony.squidgrid","c":"BatchFOV.Combine","l":"MAX"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"MAX_RETRIES"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tileset","l":"max_tiles"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"maxAdjacent"},{"p":"squidpony.squidmath","c":"Coord3D","l":"maxAxisDistance(Coord3D)","u":"maxAxisDistance(squidpony.squidmath.Coord3D)"},{"p":"squidpony.squidai","c":"Reach","l":"maxDistance"},{"p":"squidpony.squidmath","c":"Arrangement","l":"maxFill"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"maxFill"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"maxFill"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"maxFill"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"maxFill"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"maxFill"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"maxFill"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"maxFill"},{"p":"squidpony.squidmath","c":"Arrangement","l":"maxFill(int, float)","u":"maxFill(int,float)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"maxFill(int, float)","u":"maxFill(int,float)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"maxFill(int, float)","u":"maxFill(int,float)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"maxFill(int, float)","u":"maxFill(int,float)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"maxFill(long, float)","u":"maxFill(long,float)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"maxFill(long, float)","u":"maxFill(long,float)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"maxFill(long, float)","u":"maxFill(long,float)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"maxFill(long, float)","u":"maxFill(long,float)"},{"p":"squidpony.squidgrid.mapping.styled","c":"Maximums","l":"Maximums()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"maxKeys"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"maxKeys"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"maxLOSRadius"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"maxRadius"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"maxSpaces"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"maxSwitches"},{"p":"squidpony.squidai","c":"AOE","l":"mayContainTarget(Collection<Coord>)","u":"mayContainTarget(java.util.Collection)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"mayContainTarget(Collection<Coord>)","u":"mayContainTarget(java.util.Collection)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"mayContainTarget(Collection<Coord>)","u":"mayContainTarget(java.util.Collection)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"mayContainTarget(Collection<Coord>)","u":"mayContainTarget(java.util.Collection)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"mayContainTarget(Collection<Coord>)","u":"mayContainTarget(java.util.Collection)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"mayContainTarget(Collection<Coord>)","u":"mayContainTarget(java.util.Collection)"},{"p":"squidpony.squidai","c":"LineAOE","l":"mayContainTarget(Collection<Coord>)","u":"mayContainTarget(java.util.Collection)"},{"p":"squidpony.squidai","c":"PointAOE","l":"mayContainTarget(Collection<Coord>)","u":"mayContainTarget(java.util.Collection)"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"maze"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"MAZE_A"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"MAZE_B"},{"p":"squidpony.tileset","c":"Maze2Wide","l":"Maze2Wide()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"mazeFX"},{"p":"squidpony.tileset","c":"MazePlus2Wide","l":"MazePlus2Wide()","u":"%3Cinit%3E()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"measurement"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"measurement"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"measurement"},{"p":"squidpony.squidai","c":"PathfindingService","l":"measurement"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"measurement"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"measurement"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"measurement"},{"p":"squidpony.squidgrid","c":"Spill","l":"measurement"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"merge(ArrayList<char[][]>, int, int)","u":"merge(java.util.ArrayList,int,int)"},{"p":"squidpony","c":"FakeLanguageGen","l":"merge1000(RNG, String[], String[], double)","u":"merge1000(squidpony.squidmath.RNG,java.lang.String[],java.lang.String[],double)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mergePacked(ShortVLA, int, short[]...)","u":"mergePacked(squidpony.squidmath.ShortVLA,int,short[]...)"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"MersenneTwister()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"MersenneTwister(byte[])","u":"%3Cinit%3E(byte[])"},{"p":"squidpony","c":"Messaging","l":"Messaging()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"Messaging.NounTrait","l":"meText()"},{"p":"squidpony.squidai","c":"Reach","l":"metric"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"MetsaMapFactory()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"MetsaMapFactory(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"MetsaMapFactory(int, int, long)","u":"%3Cinit%3E(int,int,long)"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"MetsaMapFactory(int, int, StatefulRNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.StatefulRNG)"},{"p":"squidpony","c":"FakeLanguageGen","l":"midConsonants"},{"p":"squidpony","c":"FakeLanguageGen","l":"midVowels"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"min"},{"p":"squidpony.squidai","c":"Reach","l":"minDistance"},{"p":"squidpony","c":"Messaging.NounTrait","l":"mineText()"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"minimumDiagonal"},{"p":"squidpony","c":"LanguageCipher","l":"mismatchTranslation(Map<String, String>, String, String)","u":"mismatchTranslation(java.util.Map,java.lang.String,java.lang.String)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"mismatchTranslation(Map<String, String>, String, String)","u":"mismatchTranslation(java.util.Map,java.lang.String,java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"mix"},{"p":"squidpony","c":"FakeLanguageGen","l":"mix(double, FakeLanguageGen, double, Object...)","u":"mix(double,squidpony.FakeLanguageGen,double,java.lang.Object...)"},{"p":"squidpony","c":"FakeLanguageGen","l":"mix(FakeLanguageGen, double)","u":"mix(squidpony.FakeLanguageGen,double)"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"mix(RNG, String, MonsterGen.Chimera, double)","u":"mix(squidpony.squidmath.RNG,java.lang.String,squidpony.MonsterGen.Chimera,double)"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"mix(String, MonsterGen.Chimera, double)","u":"mix(java.lang.String,squidpony.MonsterGen.Chimera,double)"},{"p":"squidpony","c":"FakeLanguageGen","l":"mixAll(Object...)","u":"mixAll(java.lang.Object...)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"MixedGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"MixedGenerator(int, int, RNG, IRoomLayout, float)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,squidpony.squidgrid.mapping.locks.IRoomLayout,float)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"MixedGenerator(int, int, RNG, List<Coord>)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,java.util.List)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"MixedGenerator(int, int, RNG, Map<Coord, List<Coord>>)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,java.util.Map)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"MixedGenerator(int, int, RNG, Map<Coord, List<Coord>>, float)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,java.util.Map,float)"},{"p":"squidpony.squidgrid","c":"FOV","l":"mixVisibleFOVs(double[][], double[][]...)","u":"mixVisibleFOVs(double[][],double[][]...)"},{"p":"squidpony.squidgrid","c":"FOV","l":"mixVisibleFOVs(double[][], Iterable<double[][]>)","u":"mixVisibleFOVs(double[][],java.lang.Iterable)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"Modifier()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"Modifier(FakeLanguageGen.Alteration...)","u":"%3Cinit%3E(squidpony.FakeLanguageGen.Alteration...)"},{"p":"squidpony","c":"FakeLanguageGen","l":"modifier(String, String)","u":"modifier(java.lang.String,java.lang.String)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"Modifier(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"squidpony","c":"FakeLanguageGen","l":"modifier(String, String, double)","u":"modifier(java.lang.String,java.lang.String,double)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"Modifier(String, String, double)","u":"%3Cinit%3E(java.lang.String,java.lang.String,double)"},{"p":"squidpony","c":"FakeLanguageGen","l":"modifiers"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"modify(I, E)","u":"modify(I,E)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"modify(RNG, StringBuilder)","u":"modify(squidpony.squidmath.RNG,java.lang.StringBuilder)"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"ModularMapGenerator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"ModularMapGenerator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"ModularMapGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"ModularMapGenerator(ModularMapGenerator)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.ModularMapGenerator)"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"modules"},{"p":"squidpony","c":"MonsterGen","l":"MonsterGen()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"MonsterGen","l":"MonsterGen(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony","c":"MonsterGen","l":"MonsterGen(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mooreDistances"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mooreToCoord(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mooreX"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mooreY"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mortonBitDecode3D(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mortonDecode(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mortonDecode3D(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mortonEncode(int, int)","u":"mortonEncode(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mortonEncode3D(int, int, int)","u":"mortonEncode3D(int,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"mortonToHilbert(int)"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"MOUNTAIN_LEVEL"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"mountains"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"mouths"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"move(Coord, Coord)","u":"move(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"move(I, Coord)","u":"move(I,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"move(int, int)","u":"move(int,int)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"move(int, int, int)","u":"move(int,int,int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"move(int, int, int)","u":"move(int,int,int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"move(int, int, int, int, int)","u":"move(int,int,int,int,int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"moveToFirst(int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"moveToLast(int)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"mu"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"mu"},{"p":"squidpony.squidmath","c":"IntVLA","l":"mul(int, int)","u":"mul(int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"mul(int, short)","u":"mul(int,short)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"MultiKey()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"MultiKey","l":"MultiKey(Arrangement[])","u":"%3Cinit%3E(squidpony.squidmath.Arrangement[])"},{"p":"squidpony.squidmath","c":"MultiKey","l":"MultiKey(Collection<Iterable>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"MultiKey(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"MultiKey(int, int, float)","u":"%3Cinit%3E(int,int,float)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"MultiKey(MultiKey)","u":"%3Cinit%3E(squidpony.squidmath.MultiKey)"},{"p":"squidpony.squidmath","c":"Coord","l":"multiply(Coord)","u":"multiply(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Coord","l":"multiply(double)"},{"p":"squidpony.squidmath","c":"Coord","l":"multiply(int)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"MultiSpill()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"MultiSpill(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"MultiSpill(char[][], char)","u":"%3Cinit%3E(char[][],char)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"MultiSpill(char[][], Spill.Measurement)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Spill.Measurement)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"MultiSpill(char[][], Spill.Measurement, RNG)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Spill.Measurement,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"MultiSpill(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"MultiSpill(short[][])","u":"%3Cinit%3E(short[][])"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"MultiSpill(short[][], Spill.Measurement)","u":"%3Cinit%3E(short[][],squidpony.squidgrid.Spill.Measurement)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"MultiSpill(short[][], Spill.Measurement, RNG)","u":"%3Cinit%3E(short[][],squidpony.squidgrid.Spill.Measurement,squidpony.squidmath.RNG)"},{"p":"squidpony","c":"Messaging.NounTrait","l":"myselfText()"},{"p":"squidpony","c":"Messaging.NounTrait","l":"myText()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"n"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"n"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"n"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"n"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"n"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"n"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"n"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"n"},{"p":"squidpony","c":"FakeLanguageGen","l":"NAHUATL"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"name"},{"p":"squidpony.squidai","c":"Technique","l":"name"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"name"},{"p":"squidpony","c":"Messaging.NounTrait","l":"name_sText(String)","u":"name_sText(java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"names"},{"p":"squidpony","c":"Messaging.NounTrait","l":"nameText(String)","u":"nameText(java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"nameToConnections(String)","u":"nameToConnections(java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"nameToNumber(String)","u":"nameToNumber(java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"nameToRegion(String)","u":"nameToRegion(java.lang.String)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"NaturalLanguageCipher()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"NaturalLanguageCipher(FakeLanguageGen)","u":"%3Cinit%3E(squidpony.FakeLanguageGen)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"NaturalLanguageCipher(FakeLanguageGen, long)","u":"%3Cinit%3E(squidpony.FakeLanguageGen,long)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"NaturalLanguageCipher(NaturalLanguageCipher)","u":"%3Cinit%3E(squidpony.NaturalLanguageCipher)"},{"p":"squidpony.squidai","c":"ZOI","l":"nearestInfluences(Coord)","u":"nearestInfluences(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"ZOI","l":"nearestInfluences(short[][], Coord)","u":"nearestInfluences(short[][],squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"FOV","l":"nearLight"},{"p":"squidpony","c":"ObText","l":"needsRaw"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"negatePacked(short[])"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"neighborMaps()"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"neighborMaps()"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"neighborMaps()"},{"p":"squidpony","c":"ObText","l":"neighbors"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"neighbors"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"neoProcess(int[], int, int, int, int, int, int, boolean)","u":"neoProcess(int[],int,int,int,int,int,int,boolean)"},{"p":"squidpony.squidmath","c":"NeuralParticle","l":"NeuralParticle(int, int, int, RNG)","u":"%3Cinit%3E(int,int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"next"},{"p":"squidpony","c":"ObText.ItemIterator","l":"next()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"next()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"next()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"next()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"next()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"next()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"next()"},{"p":"squidpony.squidmath","c":"Arrangement.FastEntryIterator","l":"next()"},{"p":"squidpony.squidmath","c":"Arrangement.KeyIterator","l":"next()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"next()"},{"p":"squidpony.squidmath","c":"GapShuffler","l":"next()"},{"p":"squidpony.squidmath","c":"GreasedRegion.GRIterator","l":"next()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"next()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.EntryIterator","l":"next()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.FastEntryIterator","l":"next()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"next()"},{"p":"squidpony.squidmath","c":"OrderedMap.FastEntryIterator","l":"next()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeyIterator","l":"next()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"next()"},{"p":"squidpony.squidmath","c":"ShortSet.ShortSetIterator","l":"next()"},{"p":"squidpony.squidmath","c":"ChaosRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"LFSR","l":"next(int)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"next(int)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"RandomnessSource","l":"next(int)"},{"p":"squidpony.squidmath","c":"RNG.CustomRandom","l":"next(int)"},{"p":"squidpony.squidmath","c":"RNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"next(int)"},{"p":"squidpony.squidmath","c":"XorRNG","l":"next(int)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"next0()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"LFSR","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"RNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"XorRNG","l":"nextBoolean()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"nextBytes(byte[])"},{"p":"squidpony.squidmath","c":"LFSR","l":"nextBytes(byte[])"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextBytes(byte[])"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextBytes(byte[])"},{"p":"squidpony.squidmath","c":"PintRNG","l":"nextBytes(byte[])"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"nextBytes(byte[])"},{"p":"squidpony.squidmath","c":"XorRNG","l":"nextBytes(byte[])"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"nextCombinationAsArray(T[])"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"nextCombinationAsList()"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"nextCombinationAsList(List<T>)","u":"nextCombinationAsList(java.util.List)"},{"p":"squidpony.squidmath","c":"RNG","l":"nextCoord(int, int)","u":"nextCoord(int,int)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextCoord(int, int)","u":"nextCoord(int,int)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"LFSR","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"RNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"XorRNG","l":"nextDouble()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextDouble(double)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextDouble(double)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextDouble(double)"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"nextDouble(double)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextDouble(double)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextDouble(double)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"nextDouble(double)"},{"p":"squidpony.squidmath","c":"RNG","l":"nextDouble(double)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextDouble(double)"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"nextEntry()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"nextEntry()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"nextEntry()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"LFSR","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"RNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"XorRNG","l":"nextFloat()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextGaussian()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextGaussian()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextGaussian()"},{"p":"squidpony.squidmath","c":"RNG","l":"nextGaussian()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"nextIndex()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"nextIndex()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"nextIndex()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"nextInt()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"nextInt()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"LFSR","l":"nextInt()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"RNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"XorRNG","l":"nextInt()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"LFSR","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"RNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"XorRNG","l":"nextInt(int)"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"nextInt(int, int)","u":"nextInt(int,int)"},{"p":"squidpony.squidmath","c":"LFSR","l":"nextInt(int, int)","u":"nextInt(int,int)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextInt(int, int)","u":"nextInt(int,int)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextInt(int, int)","u":"nextInt(int,int)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"nextInt(int, int)","u":"nextInt(int,int)"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"nextInt(int, int)","u":"nextInt(int,int)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextIntHasty(int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextIntHasty(int)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextIntHasty(int)"},{"p":"squidpony.squidmath","c":"RNG","l":"nextIntHasty(int)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextIntVector()"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextIntVector(int)"},{"p":"squidpony.squidmath","c":"ChaosRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"LFSR","l":"nextLong()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"nextLong()"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"RandomnessSource","l":"nextLong()"},{"p":"squidpony.squidmath","c":"RNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"XorRNG","l":"nextLong()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"nextLong(long)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"nextLong(long)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"nextLong(long)"},{"p":"squidpony.squidmath","c":"LFSR","l":"nextLong(long)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextLong(long)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextLong(long)"},{"p":"squidpony.squidmath","c":"RNG","l":"nextLong(long)"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"nextLong(long)"},{"p":"squidpony.squidmath","c":"XorRNG","l":"nextLong(long)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"nextLong(long, long)","u":"nextLong(long,long)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"nextLong(long, long)","u":"nextLong(long,long)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextLongVector()"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextLongVector(long)"},{"p":"squidpony.squidmath","c":"RNG","l":"nextNextGaussian"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"nextPermutationAsArray(T[])"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"nextPermutationAsList()"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"nextPermutationAsList(List<T>)","u":"nextPermutationAsList(java.util.List)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextVector()"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"nextVector(double)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"NO_DOUBLES"},{"p":"squidpony","c":"Messaging.NounTrait","l":"NO_GENDER"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"noise(double, double)","u":"noise(double,double)"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"noise(double, double)","u":"noise(double,double)"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"noise(double, double, double)","u":"noise(double,double,double)"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"noise(double, double, double)","u":"noise(double,double,double)"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"noise(double, double, double, double)","u":"noise(double,double,double,double)"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"noise(double, double, double, double)","u":"noise(double,double,double,double)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noise2D_alt(int, int)","u":"noise2D_alt(int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noise2D_alt(int, int, int)","u":"noise2D_alt(int,int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noise2D_emphasized(int, int, int)","u":"noise2D_emphasized(int,int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noise2D(int, int)","u":"noise2D(int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noise2D(int, int, int)","u":"noise2D(int,int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noise3D_alt(int, int, int, int)","u":"noise3D_alt(int,int,int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noise3D_emphasized(int, int, int, int)","u":"noise3D_emphasized(int,int,int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noise3D(int, int, int)","u":"noise3D(int,int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noise3D(int, int, int, int)","u":"noise3D(int,int,int,int)"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"noiseAlt(double, double)","u":"noiseAlt(double,double)"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"noiseAlt(double, double, double)","u":"noiseAlt(double,double,double)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noiseBalanced3D_alt(int, int, int)","u":"noiseBalanced3D_alt(int,int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"noiseBalanced3D(int, int, int)","u":"noiseBalanced3D(int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"noiseMax"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"noiseMin"},{"p":"squidpony.squidgrid","c":"Direction","l":"NONE"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"normalizeIntensity()"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"normalTotal"},{"p":"squidpony","c":"FakeLanguageGen","l":"NORSE"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"not()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"notAnd(GreasedRegion)","u":"notAnd(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"NOTHING"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"nth(int)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"nth(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"nth(short[], int)","u":"nth(short[],int)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"nu"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"nu"},{"p":"squidpony.squidgrid.mapping.styled","c":"Config","l":"num_colors"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"NUM_THREADS"},{"p":"squidpony.squidgrid.mapping.styled","c":"Config","l":"num_x_variants"},{"p":"squidpony.squidgrid.mapping.styled","c":"Config","l":"num_y_variants"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceMap","l":"numberSpaces()"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"numberToConnections(int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"numberToName(int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"numberToRegion(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"objectUnwrap(Iterator<? extends K>, K[])","u":"objectUnwrap(java.util.Iterator,K[])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"objectUnwrap(Iterator<? extends K>, K[], int, int)","u":"objectUnwrap(java.util.Iterator,K[],int,int)"},{"p":"squidpony","c":"ObText","l":"ObText()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"ObText","l":"ObText(CharSequence)","u":"%3Cinit%3E(java.lang.CharSequence)"},{"p":"squidpony.squidgrid","c":"Radius","l":"OCTAHEDRON"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"of(int, int, long...)","u":"of(int,int,long...)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"of(short[])"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition.SwitchState","l":"OFF"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"omega"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"omega"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"omicron"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"omicron"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition.SwitchState","l":"ON"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"onlySquareRooms"},{"p":"squidpony.squidgrid","c":"Radius","l":"onUnitShape(double, RNG)","u":"onUnitShape(double,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"Radius","l":"onUnitShape3D(double, RNG)","u":"onUnitShape3D(double,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"open"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"OPEN_AREAS"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"OPEN_DOOR"},{"p":"squidpony.tileset","c":"OpenAreas","l":"OpenAreas()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"openDoors(char[][])"},{"p":"squidpony","c":"FakeLanguageGen","l":"openingConsonants"},{"p":"squidpony","c":"FakeLanguageGen","l":"openingVowels"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"openRooms"},{"p":"squidpony.squidgrid","c":"Direction","l":"opposite()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"or(GreasedRegion)","u":"or(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"or(SparseGreasedRegion)","u":"or(squidpony.squidmath.SparseGreasedRegion)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"order"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"order"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"order"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"order"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"order"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"order"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"order"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"ordered"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(Collection<K>, Collection<V>, float)","u":"%3Cinit%3E(java.util.Collection,java.util.Collection,float)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(CrossHash.IHasher)","u":"%3Cinit%3E(squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(int, CrossHash.IHasher)","u":"%3Cinit%3E(int,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(int, float, CrossHash.IHasher)","u":"%3Cinit%3E(int,float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(K[], V[])","u":"%3Cinit%3E(K[],V[])"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(K[], V[], CrossHash.IHasher)","u":"%3Cinit%3E(K[],V[],squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(K[], V[], float)","u":"%3Cinit%3E(K[],V[],float)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(K[], V[], float, CrossHash.IHasher)","u":"%3Cinit%3E(K[],V[],float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(Map<? extends K, ? extends V>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(Map<? extends K, ? extends V>, CrossHash.IHasher)","u":"%3Cinit%3E(java.util.Map,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(Map<? extends K, ? extends V>, float)","u":"%3Cinit%3E(java.util.Map,float)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"OrderedMap(Map<? extends K, ? extends V>, float, CrossHash.IHasher)","u":"%3Cinit%3E(java.util.Map,float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(Collection<? extends K>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(Collection<? extends K>, CrossHash.IHasher)","u":"%3Cinit%3E(java.util.Collection,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(Collection<? extends K>, float)","u":"%3Cinit%3E(java.util.Collection,float)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(Collection<? extends K>, float, CrossHash.IHasher)","u":"%3Cinit%3E(java.util.Collection,float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(CrossHash.IHasher)","u":"%3Cinit%3E(squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(int, CrossHash.IHasher)","u":"%3Cinit%3E(int,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(int, float, CrossHash.IHasher)","u":"%3Cinit%3E(int,float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(Iterator<? extends K>)","u":"%3Cinit%3E(java.util.Iterator)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(Iterator<? extends K>, float)","u":"%3Cinit%3E(java.util.Iterator,float)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(K[])","u":"%3Cinit%3E(K[])"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(K[], CrossHash.IHasher)","u":"%3Cinit%3E(K[],squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(K[], float)","u":"%3Cinit%3E(K[],float)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(K[], float, CrossHash.IHasher)","u":"%3Cinit%3E(K[],float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(K[], int, int)","u":"%3Cinit%3E(K[],int,int)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(K[], int, int, CrossHash.IHasher)","u":"%3Cinit%3E(K[],int,int,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(K[], int, int, float)","u":"%3Cinit%3E(K[],int,int,float)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"OrderedSet(K[], int, int, float, CrossHash.IHasher)","u":"%3Cinit%3E(K[],int,int,float,squidpony.squidmath.CrossHash.IHasher)"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"OrganicMapGenerator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"OrganicMapGenerator(double, double, int, int, RNG)","u":"%3Cinit%3E(double,double,int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"OrganicMapGenerator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"OrganicMapGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"orSamples(boolean[][], boolean[][])","u":"orSamples(boolean[][],boolean[][])"},{"p":"squidpony.squidgrid","c":"LOS","l":"ORTHO"},{"p":"squidpony.squidai","c":"AimLimit","l":"ORTHOGONAL"},{"p":"squidpony.squidmath","c":"OrthoLine","l":"OrthoLine()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator.OutOfRoomsException","l":"OutOfRoomsException()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"Direction","l":"OUTWARDS"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(boolean[][])"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"pack(boolean[][])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(byte[][])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(char[][], char)","u":"pack(char[][],char)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"pack(char[][], char)","u":"pack(char[][],char)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(char[][], char...)","u":"pack(char[][],char...)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(double[][])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(double[][], double)","u":"pack(double[][],double)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(double[][], double, double)","u":"pack(double[][],double,double)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(GreasedRegion)","u":"pack(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"pack(GreasedRegion)","u":"pack(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(int[][], int)","u":"pack(int[][],int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"pack(int[][], int...)","u":"pack(int[][],int...)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"pack(SparseGreasedRegion, int, int)","u":"pack(squidpony.squidmath.SparseGreasedRegion,int,int)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"packed"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"PackedChunks(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"PackedChunks(int, int, int[], int[], short[][])","u":"%3Cinit%3E(int,int,int[],int[],short[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"packedFloors(char[][])"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"PackedIndex(short[])","u":"%3Cinit%3E(short[])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"packMulti(byte[][], int)","u":"packMulti(byte[][],int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"packMulti(double[][], double[])","u":"packMulti(double[][],double[])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"packOne(Coord)","u":"packOne(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"packOne(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"packOne(int, int)","u":"packOne(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"packSeveral(Collection<Coord>)","u":"packSeveral(java.util.Collection)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"packSeveral(Coord...)","u":"packSeveral(squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"packSeveral(int...)"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"PacMazeGenerator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"PacMazeGenerator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"PacMazeGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"parent"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"parent"},{"p":"squidpony","c":"ObText","l":"parse(CharSequence)","u":"parse(java.lang.CharSequence)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"partialScan(Coord, int, Collection<Coord>)","u":"partialScan(squidpony.squidmath.Coord,int,java.util.Collection)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"partialScan(Coord, int, Collection<Coord>)","u":"partialScan(squidpony.squidmath.Coord,int,java.util.Collection)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"partialScan(int, Collection<Coord>)","u":"partialScan(int,java.util.Collection)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"partialScan(int, Collection<Coord>)","u":"partialScan(int,java.util.Collection)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"partialScan(int, Collection<Coord>, int)","u":"partialScan(int,java.util.Collection,int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"partialScan(int, Coord, Collection<Coord>, int)","u":"partialScan(int,squidpony.squidmath.Coord,java.util.Collection,int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScan(int, int, int[])","u":"partialScan(int,int,int[])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScan(int, IntVLA)","u":"partialScan(int,squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScanInternal(int, int, int[], int)","u":"partialScanInternal(int,int,int[],int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScanLarge(int, int, int, int[])","u":"partialScanLarge(int,int,int,int[])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScanLarge(int, int, IntVLA)","u":"partialScanLarge(int,int,squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScanLargeInternal(int, int, int, int[], int)","u":"partialScanLargeInternal(int,int,int,int[],int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScanToStart(int, int, int, int[])","u":"partialScanToStart(int,int,int,int[])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScanToStart(int, int, IntVLA)","u":"partialScanToStart(int,int,squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScanToStartLarge(int, int, int, int, int[])","u":"partialScanToStartLarge(int,int,int,int,int[])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"partialScanToStartLarge(int, int, int, IntVLA)","u":"partialScanToStartLarge(int,int,int,squidpony.squidmath.IntVLA)"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"parts"},{"p":"squidpony.squidgrid","c":"Splash","l":"passable(char)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"path"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"path"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"path"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"path"},{"p":"squidpony.squidmath","c":"Elias.Context","l":"path"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"path(Coord, Coord)","u":"path(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"path(Coord, Coord, Coord[])","u":"path(squidpony.squidmath.Coord,squidpony.squidmath.Coord,squidpony.squidmath.Coord[])"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"path(Coord, Coord, IntVLA)","u":"path(squidpony.squidmath.Coord,squidpony.squidmath.Coord,squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"path(int, int, int, int)","u":"path(int,int,int,int)"},{"p":"squidpony.squidai","c":"PathfindingService","l":"PathfindingService(char[][], DijkstraMap.Measurement)","u":"%3Cinit%3E(char[][],squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidai","c":"PathfindingService","l":"PathfindingService(char[][], DijkstraMap.Measurement, ForkJoinPool)","u":"%3Cinit%3E(char[][],squidpony.squidai.DijkstraMap.Measurement,java.util.concurrent.ForkJoinPool)"},{"p":"squidpony.squidai","c":"PathfindingService","l":"PathfindingService(FlatDijkstraMap, ForkJoinPool)","u":"%3Cinit%3E(squidpony.squidai.FlatDijkstraMap,java.util.concurrent.ForkJoinPool)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"pathFOV(List<Coord>, int)","u":"pathFOV(java.util.List,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"pathFOVPacked(List<Coord>, int)","u":"pathFOVPacked(java.util.List,int)"},{"p":"squidpony","c":"ObText","l":"pattern"},{"p":"squidpony.squidmath","c":"IntVLA","l":"peek()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"peek()"},{"p":"squidpony.squidmath","c":"IntDoubleHeap","l":"peekKey()"},{"p":"squidpony.squidgrid","c":"FOVCache.PerformanceUnit","l":"PerformanceUnit()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"Radius","l":"perimeter(Coord, int, boolean, int, int)","u":"perimeter(squidpony.squidmath.Coord,int,boolean,int,int)"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"PerlinNoise()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"perm"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"PermutationGenerator(Collection<T>, T[])","u":"%3Cinit%3E(java.util.Collection,T[])"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"PermutationGenerator(T[])","u":"%3Cinit%3E(T[])"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"PermutedRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"PermutedRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"phi"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"phi"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"phi"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"phiGrad2"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"phoneticHash64(char[], int, int)","u":"phoneticHash64(char[],int,int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"physicalMap"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"physicalMap"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"physicalMap"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"physicalMap"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"physicalMap"},{"p":"squidpony.squidgrid","c":"Spill","l":"physicalMap"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"pi"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"pi"},{"p":"squidpony.squidmath","c":"PintRNG","l":"PintRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"PintRNG(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"PintRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"placeBossGoalRooms(LayoutGenerator.KeyLevelRoomMapping)","u":"placeBossGoalRooms(squidpony.squidgrid.mapping.locks.generators.LayoutGenerator.KeyLevelRoomMapping)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"placeKeys(LayoutGenerator.KeyLevelRoomMapping)","u":"placeKeys(squidpony.squidgrid.mapping.locks.generators.LayoutGenerator.KeyLevelRoomMapping)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"placement"},{"p":"squidpony.squidgrid.mapping","c":"Placement","l":"Placement(RoomFinder)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.RoomFinder)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"placeRooms(LayoutGenerator.KeyLevelRoomMapping, int)","u":"placeRooms(squidpony.squidgrid.mapping.locks.generators.LayoutGenerator.KeyLevelRoomMapping,int)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"placeSwitches()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"PLAINS_LEVEL"},{"p":"squidpony.squidai","c":"PointAOE","l":"PointAOE(Coord)","u":"%3Cinit%3E(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"PointAOE","l":"PointAOE(Coord, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"pointPath(int, int, RNG)","u":"pointPath(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"points"},{"p":"squidpony.squidgrid","c":"Radius","l":"pointsInside(Coord, int, boolean, int, int)","u":"pointsInside(squidpony.squidmath.Coord,int,boolean,int,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"pointsInside(int, int, int, boolean, int, int)","u":"pointsInside(int,int,int,boolean,int,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"pointsInside(int, int, int, boolean, int, int, List<Coord>)","u":"pointsInside(int,int,int,boolean,int,int,java.util.List)"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"politicalMap"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"pool"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"pooled"},{"p":"squidpony.squidmath","c":"IntDoubleHeap","l":"pop()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"pop()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"pop()"},{"p":"squidpony.squidmath","c":"NeuralParticle","l":"populate(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"portal(int[][][], int, int, boolean)","u":"portal(int[][][],int,int,boolean)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"portal(int[][][], int, int, boolean)","u":"portal(int[][][],int,int,boolean)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"portal(int[][][], int, int, boolean)","u":"portal(int[][][],int,int,boolean)"},{"p":"squidpony.squidai","c":"Threat","l":"position"},{"p":"squidpony.squidgrid","c":"SpatialMap.SpatialTriple","l":"position"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"positionalModify(Coord, E)","u":"positionalModify(squidpony.squidmath.Coord,E)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"positionIterator()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"positionMapping"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"positionOf(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"positionOf(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"positionOf(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"positionOf(long)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"positions()"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"positionToConnections(Coord)","u":"positionToConnections(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"positionToConnections(int, int)","u":"positionToConnections(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"positionToContaining(Coord)","u":"positionToContaining(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"positionToContaining(int, int)","u":"positionToContaining(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"positionToName(Coord)","u":"positionToName(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"positionToName(int, int)","u":"positionToName(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"positionToNumber(Coord)","u":"positionToNumber(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"positionToNumber(int, int)","u":"positionToNumber(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"posToHilbert(int, int)","u":"posToHilbert(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"posToHilbert3D(int, int, int)","u":"posToHilbert3D(int,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"posToMoore(int, int)","u":"posToMoore(int,int)"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"powerAdjectives"},{"p":"squidpony","c":"MonsterGen","l":"powerAdjectives"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"powerPhrases"},{"p":"squidpony","c":"MonsterGen","l":"powerPhrases"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"preCalcNoise2D(int, int, long)","u":"preCalcNoise2D(int,int,long)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"precond"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"predefined"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"predefined"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"present()"},{"p":"squidpony.panel","c":"IColoredString","l":"present()"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"present(boolean)"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"presentVisible(boolean)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"presentWithMarkup(IMarkup<T>)","u":"presentWithMarkup(squidpony.panel.IMarkup)"},{"p":"squidpony.panel","c":"IColoredString","l":"presentWithMarkup(IMarkup<T>)","u":"presentWithMarkup(squidpony.panel.IMarkup)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"prev"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"prev"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"previous"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"previous"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"previous"},{"p":"squidpony.squidmath","c":"Arrangement.FastEntryIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"Arrangement.KeyIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.EntryIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.FastEntryIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"OrderedMap.FastEntryIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeyIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"previous()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"previousDouble()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"previousEntry()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"previousEntry()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"previousEntry()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"previousIndex()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"previousIndex()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"previousIndex()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"previousInt()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"previousInt()"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"printCompressedData(short[])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"printPacked(short[], int, int)","u":"printPacked(short[],int,int)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"ProbabilityTable()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"ProbabilityTable(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"ProbabilityTable(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"ProbabilityTable(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony","c":"Thesaurus","l":"process(CharSequence)","u":"process(java.lang.CharSequence)"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"process(int[], int, int, int, int, int, int, double, boolean)","u":"process(int[],int,int,int,int,int,int,double,boolean)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"psi"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"psi"},{"p":"squidpony.squidmath","c":"Coord","l":"pureEncode(int, int)","u":"pureEncode(int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleHeap","l":"push(int, double)","u":"push(int,double)"},{"p":"squidpony.squidmath","c":"K2","l":"put(A, B)","u":"put(A,B)"},{"p":"squidpony.squidmath","c":"K2V1","l":"put(A, B, Q)","u":"put(A,B,Q)"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"put(char, int, int)","u":"put(char,int,int)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"put(char[][], T[][])","u":"put(char[][],T[][])"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"put(Coord, I, E)","u":"put(squidpony.squidmath.Coord,I,E)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"put(Coord, int)","u":"put(squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"put(Coord, V)","u":"put(squidpony.squidmath.Coord,V)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"put(int, double)","u":"put(int,double)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"put(int, int)","u":"put(int,int)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"put(int, int, char)","u":"put(int,int,char)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"put(int, int, char, T)","u":"put(int,int,char,T)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"put(int, int, char, T, T)","u":"put(int,int,char,T,T)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"put(int, int, char, T, T)","u":"put(int,int,char,T,T)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"put(int, int, IColoredString<? extends T>)","u":"put(int,int,squidpony.panel.IColoredString)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"put(int, int, String, T)","u":"put(int,int,java.lang.String,T)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"put(int, int, String, T, T)","u":"put(int,int,java.lang.String,T,T)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"put(int, int, String, T, T)","u":"put(int,int,java.lang.String,T,T)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"put(int, int, T)","u":"put(int,int,T)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"put(int, int, T, IColoredString<T>)","u":"put(int,int,T,squidpony.panel.IColoredString)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"put(int, int, T, IColoredString<T>)","u":"put(int,int,T,squidpony.panel.IColoredString)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"put(int, V)","u":"put(int,V)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"put(Integer, Double)","u":"put(java.lang.Integer,java.lang.Double)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"put(K, int)","u":"put(K,int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"put(K, Integer)","u":"put(K,java.lang.Integer)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"put(K, V)","u":"put(K,V)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"put(long, int)","u":"put(long,int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"put(Object...)","u":"put(java.lang.Object...)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"put(SpatialMap.SpatialTriple<I, E>)","u":"put(squidpony.squidgrid.SpatialMap.SpatialTriple)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"putAll(Collection<? extends K>)","u":"putAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"putAll(Collection<Iterable>)","u":"putAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"putAll(int[], double[])","u":"putAll(int[],double[])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"putAll(IntDoubleOrderedMap)","u":"putAll(squidpony.squidmath.IntDoubleOrderedMap)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"putAll(IntIntOrderedMap)","u":"putAll(squidpony.squidmath.IntIntOrderedMap)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"putAll(IntObjectOrderedMap<? extends V>)","u":"putAll(squidpony.squidmath.IntObjectOrderedMap)"},{"p":"squidpony.squidmath","c":"K2","l":"putAll(Iterable<A>, Iterable<B>)","u":"putAll(java.lang.Iterable,java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"K2V1","l":"putAll(Iterable<A>, Iterable<B>, Iterable<Q>)","u":"putAll(java.lang.Iterable,java.lang.Iterable,java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"putAll(K[])"},{"p":"squidpony.squidmath","c":"K2","l":"putAll(K2<A, B>)","u":"putAll(squidpony.squidmath.K2)"},{"p":"squidpony.squidmath","c":"K2V1","l":"putAll(K2V1<A, B, Q>)","u":"putAll(squidpony.squidmath.K2V1)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"putAll(LongIntOrderedMap)","u":"putAll(squidpony.squidmath.LongIntOrderedMap)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"putAll(Map<? extends Integer, ? extends Double>)","u":"putAll(java.util.Map)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"putAll(Map<? extends K, ? extends Integer>)","u":"putAll(java.util.Map)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"putAll(Map<? extends K, ? extends V>)","u":"putAll(java.util.Map)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"putAll(MultiKey)","u":"putAll(squidpony.squidmath.MultiKey)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"putAllVariants(IntDoubleOrderedMap, int, double)","u":"putAllVariants(squidpony.squidmath.IntDoubleOrderedMap,int,double)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"putAllVariants(IntDoubleOrderedMap, int, double, int)","u":"putAllVariants(squidpony.squidmath.IntDoubleOrderedMap,int,double,int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"putAllVariants(IntDoubleOrderedMap, int, double, int)","u":"putAllVariants(squidpony.squidmath.IntDoubleOrderedMap,int,double,int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"putAllVariants(IntDoubleOrderedMap, int, double, int)","u":"putAllVariants(squidpony.squidmath.IntDoubleOrderedMap,int,double,int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"putAllVariants(IntVLA, double[], int, double)","u":"putAllVariants(squidpony.squidmath.IntVLA,double[],int,double)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"putAllVariants(IntVLA, double[], int, double, int)","u":"putAllVariants(squidpony.squidmath.IntVLA,double[],int,double,int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"putAllVariants(IntVLA, double[], int, double, int)","u":"putAllVariants(squidpony.squidmath.IntVLA,double[],int,double,int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"putAllVariants(IntVLA, double[], int, double, int)","u":"putAllVariants(squidpony.squidmath.IntVLA,double[],int,double,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"putAndMoveToFirst(int, double)","u":"putAndMoveToFirst(int,double)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"putAndMoveToFirst(K, int)","u":"putAndMoveToFirst(K,int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"putAndMoveToFirst(K, V)","u":"putAndMoveToFirst(K,V)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"putAndMoveToLast(int, double)","u":"putAndMoveToLast(int,double)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"putAndMoveToLast(K, int)","u":"putAndMoveToLast(K,int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"putAndMoveToLast(K, V)","u":"putAndMoveToLast(K,V)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"putAt(Coord, int, int)","u":"putAt(squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"putAt(Coord, V, int)","u":"putAt(squidpony.squidmath.Coord,V,int)"},{"p":"squidpony.squidmath","c":"K2","l":"putAt(int, A, B)","u":"putAt(int,A,B)"},{"p":"squidpony.squidmath","c":"K2V1","l":"putAt(int, A, B, Q)","u":"putAt(int,A,B,Q)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"putAt(int, int, int)","u":"putAt(int,int,int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"putAt(int, Object...)","u":"putAt(int,java.lang.Object...)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"putAt(int, V, int)","u":"putAt(int,V,int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"putAt(K, V, int)","u":"putAt(K,V,int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"putAt(long, int, int)","u":"putAt(long,int,int)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"putBG(int, int, T)","u":"putBG(int,int,T)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"putBG(int, int, T)","u":"putBG(int,int,T)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"putBias(String, double)","u":"putBias(java.lang.String,double)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"putBiases(Map<String, Double>)","u":"putBiases(java.util.Map)"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"putBoxRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"putBoxRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"putBoxRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"putBoxRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"putCaveCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"putCaveCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"putCaveCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"putCaveCarvers(int)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"putFG(int, int, char)","u":"putFG(int,int,char)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"putFG(int, int, char)","u":"putFG(int,int,char)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"putFG(int, int, char, T)","u":"putFG(int,int,char,T)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"putFG(int, int, char, T)","u":"putFG(int,int,char,T)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"putFG(int, int, IColoredString<T>)","u":"putFG(int,int,squidpony.panel.IColoredString)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"putFG(int, int, IColoredString<T>)","u":"putFG(int,int,squidpony.panel.IColoredString)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"putFG(int, int, String, T)","u":"putFG(int,int,java.lang.String,T)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"putFG(int, int, String, T)","u":"putFG(int,int,java.lang.String,T)"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"putRoundRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"putRoundRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"putRoundRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"putRoundRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"putWalledBoxRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"putWalledBoxRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"putWalledBoxRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"putWalledBoxRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"putWalledRoundRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"putWalledRoundRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"putWalledRoundRoomCarvers(int)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"putWalledRoundRoomCarvers(int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"qualityComplete"},{"p":"squidpony.squidgrid","c":"FOVCache.QualityUnit","l":"QualityUnit()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"quarterBlack"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"quasiRandomSeparated(double)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"quasiRandomSeparated(double, int)","u":"quasiRandomSeparated(double,int)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"query(int, int)","u":"query(int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"queryCache(int, int, int, int, int)","u":"queryCache(int,int,int,int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"queryLOS(int, int, int, int)","u":"queryLOS(int,int,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"queryPacked(short[], int, int)","u":"queryPacked(short[],int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"queryPackedHilbert(short[], short)","u":"queryPackedHilbert(short[],short)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"radiate(short[], short[], int)","u":"radiate(short[],short[],int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"radiate(short[], short[], int, boolean)","u":"radiate(short[],short[],int,boolean)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"radiate(short[], short[], int, Radius)","u":"radiate(short[],short[],int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"radius"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(Coord)","u":"radius(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(Coord, Coord)","u":"radius(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(double, double)","u":"radius(double,double)"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(double, double, double)","u":"radius(double,double,double)"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(double, double, double, double)","u":"radius(double,double,double,double)"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(double, double, double, double, double, double)","u":"radius(double,double,double,double,double,double)"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(int, int)","u":"radius(int,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(int, int, int)","u":"radius(int,int,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(int, int, int, int)","u":"radius(int,int,int,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"radius(int, int, int, int, int, int)","u":"radius(int,int,int,int,int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"radiusKind"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"radiusPositionIterator(int, int, Radius, int)","u":"radiusPositionIterator(int,int,squidpony.squidgrid.Radius,int)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"radiusSection(int, int, Radius, int)","u":"radiusSection(int,int,squidpony.squidgrid.Radius,int)"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"radiusTechnique"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"radiusTechnique"},{"p":"squidpony.squidmath","c":"MathExtras","l":"raiseToPower(int, int)","u":"raiseToPower(int,int)"},{"p":"squidpony.squidmath","c":"RNG","l":"ran"},{"p":"squidpony.squidgrid","c":"DetailedMimic","l":"random"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"random"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"random"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"random"},{"p":"squidpony.squidmath","c":"RNG","l":"random"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"random()"},{"p":"squidpony.squidmath","c":"K2","l":"randomA(RNG)","u":"randomA(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"K2V1","l":"randomA(RNG)","u":"randomA(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"K2","l":"randomB(RNG)","u":"randomB(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"K2V1","l":"randomB(RNG)","u":"randomB(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"RandomBias()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"RandomBias","l":"RandomBias(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"RandomBias(RNG, Map<String, Double>)","u":"%3Cinit%3E(squidpony.squidmath.RNG,java.util.Map)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"RandomBias(RNG, Map<String, Double>, int)","u":"%3Cinit%3E(squidpony.squidmath.RNG,java.util.Map,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"randomCell(short[])"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"randomCoord(RNG)","u":"randomCoord(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"randomElement(RNG)","u":"randomElement(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"randomEntry(RNG)","u":"randomEntry(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"randomEntry(RNG)","u":"randomEntry(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"randomEntry(RNG)","u":"randomEntry(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"randomFloor(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"randomFloorLarge(char[][], int)","u":"randomFloorLarge(char[][],int)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"randomIdentity(RNG)","u":"randomIdentity(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"RNG","l":"randomInterleave()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"randomItem(RNG)","u":"randomItem(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"randomItem(RNG)","u":"randomItem(squidpony.squidmath.RNG)"},{"p":"squidpony","c":"MonsterGen","l":"randomize()"},{"p":"squidpony.squidmath","c":"ChaosRNG","l":"randomize()"},{"p":"squidpony.squidmath","c":"SquidID","l":"randomize()"},{"p":"squidpony","c":"MonsterGen","l":"randomize(RNG, String, int)","u":"randomize(squidpony.squidmath.RNG,java.lang.String,int)"},{"p":"squidpony","c":"MonsterGen","l":"randomize(String, int)","u":"randomize(java.lang.String,int)"},{"p":"squidpony","c":"MonsterGen","l":"randomizeAppearance(MonsterGen.Chimera, String, int)","u":"randomizeAppearance(squidpony.MonsterGen.Chimera,java.lang.String,int)"},{"p":"squidpony","c":"MonsterGen","l":"randomizeAppearance(RNG, MonsterGen.Chimera, String, int)","u":"randomizeAppearance(squidpony.squidmath.RNG,squidpony.MonsterGen.Chimera,java.lang.String,int)"},{"p":"squidpony","c":"MonsterGen","l":"randomizePowers(MonsterGen.Chimera, String, int)","u":"randomizePowers(squidpony.MonsterGen.Chimera,java.lang.String,int)"},{"p":"squidpony","c":"MonsterGen","l":"randomizePowers(RNG, MonsterGen.Chimera, String, int)","u":"randomizePowers(squidpony.squidmath.RNG,squidpony.MonsterGen.Chimera,java.lang.String,int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"randomKey(int, RNG)","u":"randomKey(int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"randomKey(RNG)","u":"randomKey(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"randomKey(RNG)","u":"randomKey(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"randomKey(RNG)","u":"randomKey(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"randomKey(RNG)","u":"randomKey(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"randomKey(RNG)","u":"randomKey(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"randomKey(RNG)","u":"randomKey(squidpony.squidmath.RNG)"},{"p":"squidpony","c":"FakeLanguageGen","l":"randomLanguage(long)"},{"p":"squidpony","c":"FakeLanguageGen","l":"randomLanguage(RNG)","u":"randomLanguage(squidpony.squidmath.RNG)"},{"p":"squidpony","c":"Thesaurus","l":"randomLanguages"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"randomMatchingTile(char[][], char)","u":"randomMatchingTile(char[][],char)"},{"p":"squidpony","c":"MonsterGen","l":"randomName()"},{"p":"squidpony","c":"MonsterGen","l":"randomName(RNG)","u":"randomName(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"randomOrdering(int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"randomOrdering(int)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"randomOrdering(int)"},{"p":"squidpony.squidmath","c":"RNG","l":"randomOrdering(int)"},{"p":"squidpony.squidmath","c":"RNG","l":"randomOrdering(int, int[])","u":"randomOrdering(int,int[])"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"randomPortion(int, RNG)","u":"randomPortion(int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"randomPortion(List<T>, int)","u":"randomPortion(java.util.List,int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"randomPortion(List<T>, int)","u":"randomPortion(java.util.List,int)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"randomPortion(List<T>, int)","u":"randomPortion(java.util.List,int)"},{"p":"squidpony.squidmath","c":"RNG","l":"randomPortion(List<T>, int)","u":"randomPortion(java.util.List,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"randomPortion(RNG, int)","u":"randomPortion(squidpony.squidmath.RNG,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"randomPortion(short[], int, RNG)","u":"randomPortion(short[],int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"randomPortion(T[], T[])","u":"randomPortion(T[],T[])"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"randomPortion(T[], T[])","u":"randomPortion(T[],T[])"},{"p":"squidpony.squidmath","c":"EditRNG","l":"randomPortion(T[], T[])","u":"randomPortion(T[],T[])"},{"p":"squidpony.squidmath","c":"RNG","l":"randomPortion(T[], T[])","u":"randomPortion(T[],T[])"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"randomPosition(RNG)","u":"randomPosition(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"K2V1","l":"randomQ(RNG)","u":"randomQ(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"randomRange(int, int, int)","u":"randomRange(int,int,int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"randomRange(int, int, int)","u":"randomRange(int,int,int)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"randomRange(int, int, int)","u":"randomRange(int,int,int)"},{"p":"squidpony.squidmath","c":"RNG","l":"randomRange(int, int, int)","u":"randomRange(int,int,int)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"randomRotation(List<T>)","u":"randomRotation(java.util.List)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"randomRotation(List<T>)","u":"randomRotation(java.util.List)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"randomRotation(List<T>)","u":"randomRotation(java.util.List)"},{"p":"squidpony.squidmath","c":"RNG","l":"randomRotation(List<T>)","u":"randomRotation(java.util.List)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"randomSample(short[], double, RNG)","u":"randomSample(short[],double,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"randomSeparated(double, RNG)","u":"randomSeparated(double,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"randomSeparated(double, RNG, int)","u":"randomSeparated(double,squidpony.squidmath.RNG,int)"},{"p":"squidpony.squidmath","c":"Region","l":"randomSeparated(int, RNG)","u":"randomSeparated(int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"randomSeparated(short[], int, RNG)","u":"randomSeparated(short[],int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"randomStep(char[][], Coord, boolean)","u":"randomStep(char[][],squidpony.squidmath.Coord,boolean)"},{"p":"squidpony.squidmath","c":"PoissonDisk","l":"randomUnblockedTile(Coord, Coord, char[][], RNG, HashSet<Character>)","u":"randomUnblockedTile(squidpony.squidmath.Coord,squidpony.squidmath.Coord,char[][],squidpony.squidmath.RNG,java.util.HashSet)"},{"p":"squidpony.squidmath","c":"SquidID","l":"randomUUID()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"randomValue(RNG)","u":"randomValue(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"randomValue(RNG)","u":"randomValue(squidpony.squidmath.RNG)"},{"p":"squidpony","c":"ArrayTools","l":"range(int)"},{"p":"squidpony","c":"GwtCompatibility","l":"range(int)"},{"p":"squidpony","c":"ArrayTools","l":"range(int, int)","u":"range(int,int)"},{"p":"squidpony","c":"GwtCompatibility","l":"range(int, int)","u":"range(int,int)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"rank(int, int)","u":"rank(int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"rateDensity()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"rateRegularity()"},{"p":"squidpony","c":"ObText","l":"raw"},{"p":"squidpony.squidmath","c":"Region","l":"raw"},{"p":"squidpony.squidmath","c":"EditRNG","l":"rawLatest"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"rawNoise2D_alt(int, int)","u":"rawNoise2D_alt(int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"rawNoise2D(int, int)","u":"rawNoise2D(int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"rawNoise3D_alt(int, int, int)","u":"rawNoise3D_alt(int,int,int)"},{"p":"squidpony.squidmath","c":"MerlinNoise","l":"rawNoise3D(int, int, int)","u":"rawNoise3D(int,int,int)"},{"p":"squidpony.squidgrid","c":"LOS","l":"RAY"},{"p":"squidpony.squidai","c":"Threat","l":"reach"},{"p":"squidpony.squidgrid","c":"RegionFOV","l":"reach"},{"p":"squidpony.squidai","c":"Reach","l":"Reach()","u":"%3Cinit%3E()"},{"p":"squidpony.squidai","c":"Reach","l":"Reach(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidai","c":"Reach","l":"Reach(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidai","c":"Reach","l":"Reach(int, int, Radius)","u":"%3Cinit%3E(int,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"Reach","l":"Reach(int, int, Radius, AimLimit)","u":"%3Cinit%3E(int,int,squidpony.squidgrid.Radius,squidpony.squidai.AimLimit)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"reachable(short[], short[], Reach)","u":"reachable(short[],short[],squidpony.squidai.Reach)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"rebuildSeed"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"rebuildSeed"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"rebuildSeed"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"Rect2I(Coord, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"rectangle(int, int)","u":"rectangle(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"rectangle(int, int, int, int)","u":"rectangle(int,int,int,int)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"RectangleFromBottomLeftToTopRight(Coord, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"rectangleHilbert(int, int, int, int)","u":"rectangleHilbert(int,int,int,int)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"rectanglePositionIterator(int, int, int, int)","u":"rectanglePositionIterator(int,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"RectangleRoomFinder(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"rectangleSection(int, int, int, int)","u":"rectangleSection(int,int,int,int)"},{"p":"squidpony.tileset","c":"Ref2CornerCaves","l":"Ref2CornerCaves()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"REFERENCE_CAVES"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(boolean[], int, int)","u":"refill(boolean[],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(boolean[][])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(char[][], char)","u":"refill(char[][],char)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(double[][], double)","u":"refill(double[][],double)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(double[][], double, double)","u":"refill(double[][],double,double)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(double[][], double, double, int)","u":"refill(double[][],double,double,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(int[][], int)","u":"refill(int[][],int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(int[][], int, int)","u":"refill(int[][],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(RandomnessSource, int, int)","u":"refill(squidpony.squidmath.RandomnessSource,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(RNG, double, int, int)","u":"refill(squidpony.squidmath.RNG,double,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(RNG, int, int)","u":"refill(squidpony.squidmath.RNG,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(short[][], int, int)","u":"refill(short[][],int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"refill(String[], char)","u":"refill(java.lang.String[],char)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"refreshCache(char[][])"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"refreshComplete"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"refreshRegion(char[][], Coord...)","u":"refreshRegion(char[][],squidpony.squidmath.Coord...)"},{"p":"squidpony.squidgrid","c":"FOVCache.RefreshUnit","l":"RefreshUnit(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"regen()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"regenerateHeightMap()"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"regenerateHeightMap(int, int)","u":"regenerateHeightMap(int,int)"},{"p":"squidpony.squidmath","c":"Region","l":"Region(char[][], char...)","u":"%3Cinit%3E(char[][],char...)"},{"p":"squidpony.squidmath","c":"Region","l":"Region(Collection<Coord>)","u":"%3Cinit%3E(java.util.Collection)"},{"p":"squidpony.squidmath","c":"Region","l":"Region(Coord, int, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int,int)"},{"p":"squidpony.squidmath","c":"Region","l":"Region(Coord...)","u":"%3Cinit%3E(squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"Region","l":"Region(double[][])","u":"%3Cinit%3E(double[][])"},{"p":"squidpony.squidmath","c":"Region","l":"Region(double[][], double)","u":"%3Cinit%3E(double[][],double)"},{"p":"squidpony.squidmath","c":"Region","l":"Region(int, int, int, int)","u":"%3Cinit%3E(int,int,int,int)"},{"p":"squidpony.squidmath","c":"Region","l":"Region(Region)","u":"%3Cinit%3E(squidpony.squidmath.Region)"},{"p":"squidpony.squidmath","c":"Region","l":"Region(short[])","u":"%3Cinit%3E(short[])"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"regionAt(int, int)","u":"regionAt(int,int)"},{"p":"squidpony.squidgrid","c":"RegionFOV","l":"RegionFOV()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"RegionMap","l":"RegionMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"RegionMap","l":"RegionMap(Collection<short[]>, Collection<V>, float)","u":"%3Cinit%3E(java.util.Collection,java.util.Collection,float)"},{"p":"squidpony.squidmath","c":"RegionMap","l":"RegionMap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"RegionMap","l":"RegionMap(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"RegionMap","l":"RegionMap(Map<short[], ? extends V>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"squidpony.squidmath","c":"RegionMap","l":"RegionMap(Map<short[], ? extends V>, float)","u":"%3Cinit%3E(java.util.Map,float)"},{"p":"squidpony.squidmath","c":"RegionMap","l":"RegionMap(short[][], V[])","u":"%3Cinit%3E(short[][],V[])"},{"p":"squidpony.squidmath","c":"RegionMap","l":"RegionMap(short[][], V[], float)","u":"%3Cinit%3E(short[][],V[],float)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"regions"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"regionsConnected(int, int)","u":"regionsConnected(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"regionsContain(short[], Collection<short[]>)","u":"regionsContain(short[],java.util.Collection)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"regionsContain(short[], short[]...)","u":"regionsContain(short[],short[]...)"},{"p":"squidpony.squidmath","c":"RegionMap","l":"regionsContaining(int, int)","u":"regionsContaining(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"regionsNear(int, int)","u":"regionsNear(int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"rehash()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"rehash()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"rehash()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"rehash(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"rehash(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"rehash(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"rehash(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"rehash(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"rehash(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"rehash(int)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"rehash(int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"reinitialize(RoomFinder)","u":"reinitialize(squidpony.squidgrid.mapping.RoomFinder)"},{"p":"squidpony.squidgrid","c":"LOS","l":"releaseTemplates()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"rem(double)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"rem(Object)","u":"rem(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"rem(Object)","u":"rem(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"rem(Object)","u":"rem(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"rem(Object)","u":"rem(java.lang.Object)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"remake(GreasedRegion)","u":"remake(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony","c":"ObText.ItemIterator","l":"remove()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"remove()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"remove()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"remove()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"remove()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"remove()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"remove()"},{"p":"squidpony.squidmath","c":"Arrangement.KeyIterator","l":"remove()"},{"p":"squidpony.squidmath","c":"Arrangement.FastEntryIterator","l":"remove()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"remove()"},{"p":"squidpony.squidmath","c":"GapShuffler","l":"remove()"},{"p":"squidpony.squidmath","c":"GreasedRegion.GRIterator","l":"remove()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.EntryIterator","l":"remove()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"remove()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeyIterator","l":"remove()"},{"p":"squidpony.squidmath","c":"OrderedMap.FastEntryIterator","l":"remove()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"remove()"},{"p":"squidpony.squidmath","c":"ShortSet.ShortSetIterator","l":"remove()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"remove(Coord)","u":"remove(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"remove(Coord)","u":"remove(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordIntOrderedMap","l":"remove(Coord)","u":"remove(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"CoordObjectOrderedMap","l":"remove(Coord)","u":"remove(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"remove(Coord)","u":"remove(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"remove(Coord)","u":"remove(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"remove(I)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"remove(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"remove(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"remove(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"remove(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"remove(int)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"remove(int, int)","u":"remove(int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"remove(int, int)","u":"remove(int,int)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"remove(int, int)","u":"remove(int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"remove(int, int, GreasedRegion)","u":"remove(int,int,squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"remove(int, Object)","u":"remove(int,java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"remove(Integer)","u":"remove(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"remove(long)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"remove(Object)","u":"remove(java.lang.Object)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"remove(short)"},{"p":"squidpony.squidmath","c":"K2","l":"removeA(A)"},{"p":"squidpony.squidmath","c":"K2V1","l":"removeA(A)"},{"p":"squidpony","c":"FakeLanguageGen","l":"removeAccents()"},{"p":"squidpony","c":"FakeLanguageGen","l":"removeAccents(CharSequence)","u":"removeAccents(java.lang.CharSequence)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"removeAdjacent(OrderedSet<Coord>, Coord)","u":"removeAdjacent(squidpony.squidmath.OrderedSet,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"removeAdjacent(OrderedSet<Coord>, Coord)","u":"removeAdjacent(squidpony.squidmath.OrderedSet,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"removeAdjacent(OrderedSet<Coord>, Coord, Coord)","u":"removeAdjacent(squidpony.squidmath.OrderedSet,squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"removeAdjacent(OrderedSet<Coord>, Coord, Coord)","u":"removeAdjacent(squidpony.squidmath.OrderedSet,squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"removeAll(Collection<?>)","u":"removeAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"removeAll(Collection<?>)","u":"removeAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"removeAll(Collection<?>)","u":"removeAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"removeAll(Collection<?>)","u":"removeAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"removeAll(Collection<?>)","u":"removeAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"removeAll(Collection<?>)","u":"removeAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"removeAll(Collection<?>)","u":"removeAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"removeAll(Collection<?>)","u":"removeAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"removeAll(Collection<?>)","u":"removeAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"removeAll(IntDoubleOrderedMap.DoubleCollection)","u":"removeAll(squidpony.squidmath.IntDoubleOrderedMap.DoubleCollection)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"removeAll(IntVLA)","u":"removeAll(squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"removeAll(ShortVLA)","u":"removeAll(squidpony.squidmath.ShortVLA)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"K2","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"K2V1","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"removeAt(int)"},{"p":"squidpony.squidmath","c":"K2","l":"removeB(B)"},{"p":"squidpony.squidmath","c":"K2V1","l":"removeB(B)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"removeCircle(Coord, int)","u":"removeCircle(squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"removeCorners()"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"removeDescendantsFromList(List<Room>, Room)","u":"removeDescendantsFromList(java.util.List,squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"removeFirst()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"removeFirst()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"removeFirst()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"removeFirst()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"removeFirst()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"removeFirst()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"removeFirst()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"removeFirstDouble()"},{"p":"squidpony.squidgrid.mapping","c":"RectangleRoomFinder","l":"removeFloorCharacter(char)"},{"p":"squidpony.squidgrid","c":"Splash","l":"removeImpassableChar(char)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"removeIndex(int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"removeIndex(int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"removeInt(Object)","u":"removeInt(java.lang.Object)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"removeIsolated()"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"removeIsolated(short[])"},{"p":"squidpony.squidmath","c":"Arrangement","l":"removeLast()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"removeLast()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"removeLast()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"removeLast()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"removeLast()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"removeLast()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"removeLast()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"removeLastDouble()"},{"p":"squidpony","c":"FakeLanguageGen","l":"removeModifiers()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"removeNearby(OrderedSet<Coord>, char[][])","u":"removeNearby(squidpony.squidmath.OrderedSet,char[][])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"removePacked(short[], int, int)","u":"removePacked(short[],int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"removePacked(short[], short)","u":"removePacked(short[],short)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"removeRange(int, int)","u":"removeRange(int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"removeRange(int, int)","u":"removeRange(int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"removeRectangle(int, int, int, int)","u":"removeRectangle(int,int,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"removeSeveral(Coord...)","u":"removeSeveral(squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"removeSeveral(Iterable<Coord>)","u":"removeSeveral(java.lang.Iterable)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"removeSeveralPacked(short[], Collection<Coord>)","u":"removeSeveralPacked(short[],java.util.Collection)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"removeSeveralPacked(short[], Coord...)","u":"removeSeveralPacked(short[],squidpony.squidmath.Coord...)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"removeSeveralPacked(short[], int...)","u":"removeSeveralPacked(short[],int...)"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"removeSomeOverlap(int, int, List<Coord>)","u":"removeSomeOverlap(int,int,java.util.List)"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"removeSomeOverlap(int, int, Map<Coord, List<Coord>>)","u":"removeSomeOverlap(int,int,java.util.Map)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"removeSound(Coord)","u":"removeSound(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"removeSound(int, int)","u":"removeSound(int,int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"removeValue(int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"removeValue(short)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"removeWalls(short[])"},{"p":"squidpony","c":"ArrayTools","l":"reorder(ArrayList<T>, int...)","u":"reorder(java.util.ArrayList,int...)"},{"p":"squidpony","c":"GwtCompatibility","l":"reorder(ArrayList<T>, int...)","u":"reorder(java.util.ArrayList,int...)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"K2","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"K2V1","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"reorder(int...)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"reorder(int...)"},{"p":"squidpony","c":"ColoredStringList","l":"replaceColor(T, T)","u":"replaceColor(T,T)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"replaceColor(T, T)","u":"replaceColor(T,T)"},{"p":"squidpony.panel","c":"IColoredString","l":"replaceColor(T, T)","u":"replaceColor(T,T)"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"replacement"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"replacementTable(OrderedMap<String, String>)","u":"replacementTable(squidpony.squidmath.OrderedMap)"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"replacementTable(String, String)","u":"replacementTable(java.lang.String,java.lang.String)"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"replacer"},{"p":"squidpony.squidai","c":"PathfindingService.Request","l":"Request(int, Collection<Coord>, Coord, Coord...)","u":"%3Cinit%3E(int,java.util.Collection,squidpony.squidmath.Coord,squidpony.squidmath.Coord...)"},{"p":"squidpony.squidgrid","c":"FOVCache.RefreshUnit","l":"res"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"reseed()"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"reseed(long)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"reseed(long)"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"reseed(long[])"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"reseed(String)","u":"reseed(java.lang.String)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"reset()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"reset()"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"reset()"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"reset()"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"reset()"},{"p":"squidpony.squidgrid","c":"Spill","l":"reset()"},{"p":"squidpony.squidmath","c":"CombinationGenerator","l":"reset()"},{"p":"squidpony.squidmath","c":"PermutationGenerator","l":"reset()"},{"p":"squidpony.squidmath","c":"ShortSet.ShortSetIterator","l":"reset()"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"resetAllVariants(double[], int[], double[])","u":"resetAllVariants(double[],int[],double[])"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"resetAllVariants(double[], int[], double[], int)","u":"resetAllVariants(double[],int[],double[],int)"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"resetAllVariants(double[], int[], int, double[], int)","u":"resetAllVariants(double[],int[],int,double[],int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"resetAllVariants(double[], int[], int, double[], int)","u":"resetAllVariants(double[],int[],int,double[],int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"resetAllVariants(double[], int[], int, double[], int)","u":"resetAllVariants(double[],int[],int,double[],int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"resetCell(Coord)","u":"resetCell(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"resetCell(Coord)","u":"resetCell(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"resetCell(Coord)","u":"resetCell(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"Spill","l":"resetCell(Coord)","u":"resetCell(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"resetCell(int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"resetCell(int, int)","u":"resetCell(int,int)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"resetCell(int, int)","u":"resetCell(int,int)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"resetCell(int, int)","u":"resetCell(int,int)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"resetCell(int, int)","u":"resetCell(int,int)"},{"p":"squidpony.squidgrid","c":"Spill","l":"resetCell(int, int)","u":"resetCell(int,int)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"resetFortune()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"resetGradientCacheCounters()"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"resetMap()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"resetMap()"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"resetMap()"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"resetMap()"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"resetMap()"},{"p":"squidpony.squidgrid","c":"Spill","l":"resetMap()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"resetTargetMap()"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"resistances"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"resize(int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"resize(int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"resize(int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"resMap"},{"p":"squidpony.squidmath","c":"MathExtras","l":"restrictRange(double, double, double)","u":"restrictRange(double,double,double)"},{"p":"squidpony.squidmath","c":"MathExtras","l":"restrictRange(int, int, int)","u":"restrictRange(int,int,int)"},{"p":"squidpony.squidmath","c":"MathExtras","l":"restrictRange(long, long, long)","u":"restrictRange(long,long,long)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"retainAll(Collection<?>)","u":"retainAll(java.util.Collection)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"retainAll(IntDoubleOrderedMap.DoubleCollection)","u":"retainAll(squidpony.squidmath.IntDoubleOrderedMap.DoubleCollection)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retract()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retract(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"retract(short[], int, int, int)","u":"retract(short[],int,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"retract(short[], int, int, int, boolean)","u":"retract(short[],int,int,int,boolean)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retract8way()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retract8way(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retractSeries(GreasedRegion[])","u":"retractSeries(squidpony.squidmath.GreasedRegion[])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retractSeries(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retractSeries8way(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retractSeriesToLimit()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"retractSeriesToLimit8way()"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator.RetryException","l":"RetryException()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"FOV","l":"reuseFOV(double[][], double[][], int, int, double)","u":"reuseFOV(double[][],double[][],int,int,double)"},{"p":"squidpony.squidgrid","c":"FOV","l":"reuseFOV(double[][], double[][], int, int, double, Radius)","u":"reuseFOV(double[][],double[][],int,int,double,squidpony.squidgrid.Radius)"},{"p":"squidpony","c":"LanguageCipher","l":"reverse"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"reverse"},{"p":"squidpony.squidmath","c":"IntVLA","l":"reverse()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"reverse()"},{"p":"squidpony","c":"ArrayTools","l":"reverse(boolean[])"},{"p":"squidpony","c":"ArrayTools","l":"reverse(byte[])"},{"p":"squidpony","c":"ArrayTools","l":"reverse(char[])"},{"p":"squidpony","c":"ArrayTools","l":"reverse(double[])"},{"p":"squidpony","c":"ArrayTools","l":"reverse(float[])"},{"p":"squidpony","c":"ArrayTools","l":"reverse(int[])"},{"p":"squidpony","c":"ArrayTools","l":"reverse(T[])"},{"p":"squidpony.squidgrid","c":"AestheticDifference","l":"rgba8888"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"rho"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"rho"},{"p":"squidpony.squidgrid","c":"Direction","l":"RIGHT"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"right()"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Right","l":"Right(int, int, int, int)","u":"%3Cinit%3E(int,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"rightDoors"},{"p":"squidpony.squidgrid","c":"FOV","l":"RIPPLE"},{"p":"squidpony.squidgrid","c":"FOV","l":"RIPPLE_LOOSE"},{"p":"squidpony.squidgrid","c":"FOV","l":"RIPPLE_TIGHT"},{"p":"squidpony.squidgrid","c":"FOV","l":"RIPPLE_VERY_LOOSE"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"river"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"rng"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"rng"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"rng"},{"p":"squidpony.squidai","c":"WaypointPathfinder","l":"rng"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"rng"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"rng"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"rng"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"rng"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"rng"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"rng"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"rng"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"rng"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"rng"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"rng"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"rng"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"rng"},{"p":"squidpony.squidgrid","c":"Spill","l":"rng"},{"p":"squidpony.squidmath","c":"GapShuffler","l":"rng"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"rng"},{"p":"squidpony.squidmath","c":"RandomBias","l":"rng"},{"p":"squidpony","c":"Thesaurus","l":"rng"},{"p":"squidpony.squidmath","c":"RNG","l":"RNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"RNG","l":"RNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"RNG","l":"RNG(RandomnessSource)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"RNG","l":"RNG(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidmath","c":"Dice","l":"rollDice(int, int)","u":"rollDice(int,int)"},{"p":"squidpony.squidmath","c":"Dice","l":"rollGroup(String)","u":"rollGroup(java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"ROOM"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"ROOM_FLOOR"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"ROOM_WALL"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ROOM_WALL_CHAOTIC"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ROOM_WALL_EXPAND"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ROOM_WALL_NORMAL"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ROOM_WALL_RETRACT"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"Room(int, Coord, Room, int, Condition)","u":"%3Cinit%3E(int,squidpony.squidmath.Coord,squidpony.squidgrid.mapping.locks.Room,int,squidpony.squidgrid.mapping.locks.Condition)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"Room(int, Set<Coord>, Room, int, Condition)","u":"%3Cinit%3E(int,java.util.Set,squidpony.squidgrid.mapping.locks.Room,int,squidpony.squidgrid.mapping.locks.Condition)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"roomCanFitItem(int, int)","u":"roomCanFitItem(int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"roomCanFitItem(int, int)","u":"roomCanFitItem(int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ILayoutConstraints","l":"roomCanFitItem(int, int)","u":"roomCanFitItem(int,int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"roomCount()"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"roomCount()"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"RoomFinder(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"RoomFinder(char[][], int)","u":"%3Cinit%3E(char[][],int)"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"RoomFinder(char[][], int[][])","u":"%3Cinit%3E(char[][],int[][])"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"roomFX"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"roomHeight"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"roomIds"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"RoomLayout()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"rooms"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"rooms"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"rooms"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"ROOMS_AND_CORRIDORS_A"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"ROOMS_AND_CORRIDORS_B"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"ROOMS_LIMIT_CONNECTIVITY"},{"p":"squidpony.tileset","c":"RoomsAndCorridors","l":"RoomsAndCorridors()","u":"%3Cinit%3E()"},{"p":"squidpony.tileset","c":"RoomsAndCorridors2WideDiagonalBias","l":"RoomsAndCorridors2WideDiagonalBias()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.locks","c":"IRoomLayout","l":"roomsAreLinked(Room, Room)","u":"roomsAreLinked(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.squidgrid.mapping.locks","c":"RoomLayout","l":"roomsAreLinked(Room, Room)","u":"roomsAreLinked(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.tileset","c":"RoomsLimitConnectivity","l":"RoomsLimitConnectivity()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"roomWidth"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"root3"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"root5"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"rotate(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"RotationAdjacency(int, int, DijkstraMap.Measurement)","u":"%3Cinit%3E(int,int,squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"rotations"},{"p":"squidpony.squidgrid","c":"Radius","l":"roughDistance(int, int)","u":"roughDistance(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator.CarverType","l":"ROUND"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"ROUND_ROOMS_DIAGONAL_CORRIDORS"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator.CarverType","l":"ROUND_WALLED"},{"p":"squidpony.tileset","c":"RoundRoomsDiagonalCorridors","l":"RoundRoomsDiagonalCorridors()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"rowLongs"},{"p":"squidpony.squidgrid.mapping","c":"LanesMapGenerator","l":"rows"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"ruins"},{"p":"squidpony.squidgrid","c":"FOVCache.PerformanceUnit","l":"run()"},{"p":"squidpony.squidgrid","c":"FOVCache.QualityUnit","l":"run()"},{"p":"squidpony.squidgrid","c":"FOVCache.RefreshUnit","l":"run()"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"runs"},{"p":"squidpony","c":"FakeLanguageGen","l":"RUSSIAN_AUTHENTIC"},{"p":"squidpony","c":"FakeLanguageGen","l":"RUSSIAN_ROMANIZED"},{"p":"squidpony","c":"StringKit","l":"safeSubstring(String, int, int)","u":"safeSubstring(java.lang.String,int,int)"},{"p":"squidpony.squidmath","c":"PoissonDisk","l":"sampleCircle(Coord, float, float, int, int)","u":"sampleCircle(squidpony.squidmath.Coord,float,float,int,int)"},{"p":"squidpony.squidmath","c":"PoissonDisk","l":"sampleCircle(Coord, float, float, int, int, int, RNG)","u":"sampleCircle(squidpony.squidmath.Coord,float,float,int,int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"PoissonDisk","l":"sampleMap(char[][], float, RNG, Character...)","u":"sampleMap(char[][],float,squidpony.squidmath.RNG,java.lang.Character...)"},{"p":"squidpony.squidmath","c":"PoissonDisk","l":"sampleMap(Coord, Coord, char[][], float, RNG, Character...)","u":"sampleMap(squidpony.squidmath.Coord,squidpony.squidmath.Coord,char[][],float,squidpony.squidmath.RNG,java.lang.Character...)"},{"p":"squidpony.squidmath","c":"PoissonDisk","l":"sampleRectangle(Coord, Coord, float, int, int)","u":"sampleRectangle(squidpony.squidmath.Coord,squidpony.squidmath.Coord,float,int,int)"},{"p":"squidpony.squidmath","c":"PoissonDisk","l":"sampleRectangle(Coord, Coord, float, int, int, int, RNG)","u":"sampleRectangle(squidpony.squidmath.Coord,squidpony.squidmath.Coord,float,int,int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"samples"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"sampleToMap(boolean[], int, int, char, char)","u":"sampleToMap(boolean[],int,int,char,char)"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"sampleToMap(boolean[][], char, char)","u":"sampleToMap(boolean[][],char,char)"},{"p":"squidpony","c":"FakeLanguageGen","l":"sanityChecks"},{"p":"squidpony","c":"IColorCenter","l":"saturate(T, float)","u":"saturate(T,float)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"saturate(T, float)","u":"saturate(T,float)"},{"p":"squidpony","c":"IColorCenter","l":"saturated(T)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"saturated(T)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"saveCache(File)","u":"saveCache(java.io.File)"},{"p":"squidpony.squidmath","c":"Coord","l":"scale(int)"},{"p":"squidpony.squidmath","c":"Coord","l":"scale(int, int)","u":"scale(int,int)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"scan()"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"scan(Collection<Coord>)","u":"scan(java.util.Collection)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"scan(Collection<Coord>)","u":"scan(java.util.Collection)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"scan(Collection<Coord>, int)","u":"scan(java.util.Collection,int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"scan(Coord, Collection<Coord>)","u":"scan(squidpony.squidmath.Coord,java.util.Collection)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"scan(Coord, Collection<Coord>)","u":"scan(squidpony.squidmath.Coord,java.util.Collection)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"scan(Coord, Collection<Coord>, int)","u":"scan(squidpony.squidmath.Coord,java.util.Collection,int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scan(int, int[])","u":"scan(int,int[])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scan(IntVLA)","u":"scan(squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scanInternal(int, int[], int)","u":"scanInternal(int,int[],int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scanLarge(int, int, int[])","u":"scanLarge(int,int,int[])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scanLarge(int, IntVLA)","u":"scanLarge(int,squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scanLargeInternal(int, int, int[], int)","u":"scanLargeInternal(int,int,int[],int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scanToStart(int, int, int[])","u":"scanToStart(int,int,int[])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scanToStart(int, IntVLA)","u":"scanToStart(int,squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scanToStartLarge(int, int, int, int[])","u":"scanToStartLarge(int,int,int,int[])"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"scanToStartLarge(int, int, IntVLA)","u":"scanToStartLarge(int,int,squidpony.squidmath.IntVLA)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"scramble"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"scratch"},{"p":"squidpony","c":"SquidTags","l":"SCREEN"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"SEA_LEVEL"},{"p":"squidpony","c":"Messaging.NounTrait","l":"SECOND_PERSON_PLURAL"},{"p":"squidpony","c":"Messaging.NounTrait","l":"SECOND_PERSON_SINGULAR"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"SectionDungeonGenerator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"SectionDungeonGenerator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"SectionDungeonGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"SectionDungeonGenerator(SectionDungeonGenerator)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.SectionDungeonGenerator)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"SectionMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"SectionMap(RoomFinder)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.RoomFinder)"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"SectionMap(SectionMap)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.SectionMap)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"seedFixed"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"seedFixed"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"seedFixed"},{"p":"squidpony","c":"FakeLanguageGen","l":"sentence(int, int)","u":"sentence(int,int)"},{"p":"squidpony","c":"FakeLanguageGen","l":"sentence(int, int, String[], String[], double)","u":"sentence(int,int,java.lang.String[],java.lang.String[],double)"},{"p":"squidpony","c":"FakeLanguageGen","l":"sentence(int, int, String[], String[], double, int)","u":"sentence(int,int,java.lang.String[],java.lang.String[],double,int)"},{"p":"squidpony","c":"FakeLanguageGen","l":"sentence(RNG, int, int)","u":"sentence(squidpony.squidmath.RNG,int,int)"},{"p":"squidpony","c":"FakeLanguageGen","l":"sentence(RNG, int, int, String[], String[], double)","u":"sentence(squidpony.squidmath.RNG,int,int,java.lang.String[],java.lang.String[],double)"},{"p":"squidpony","c":"FakeLanguageGen","l":"sentence(RNG, int, int, String[], String[], double, int)","u":"sentence(squidpony.squidmath.RNG,int,int,java.lang.String[],java.lang.String[],double,int)"},{"p":"squidpony.squidmath","c":"Region","l":"separated(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"separatedPortion(double)"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"serializeToString()"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"serializeToString()"},{"p":"squidpony","c":"FakeLanguageGen","l":"serializeToString()"},{"p":"squidpony","c":"ObText","l":"serializeToString()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"serializeToString()"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"SerpentDeepMapGenerator(int, int, int, RNG)","u":"%3Cinit%3E(int,int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentDeepMapGenerator","l":"SerpentDeepMapGenerator(int, int, int, RNG, double)","u":"%3Cinit%3E(int,int,int,squidpony.squidmath.RNG,double)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"SerpentMapGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"SerpentMapGenerator(int, int, RNG, boolean)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,boolean)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"SerpentMapGenerator(int, int, RNG, double)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,double)"},{"p":"squidpony.squidgrid.mapping","c":"SerpentMapGenerator","l":"SerpentMapGenerator(int, int, RNG, double, boolean)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,double,boolean)"},{"p":"squidpony.squidmath","c":"Arrangement.FastEntryIterator","l":"set(Arrangement.MapEntry)","u":"set(squidpony.squidmath.Arrangement.MapEntry)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"set(boolean, Coord)","u":"set(boolean,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"set(boolean, int, int)","u":"set(boolean,int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceMap","l":"set(Coord, boolean)","u":"set(squidpony.squidmath.Coord,boolean)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"set(double)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"set(Double)","u":"set(java.lang.Double)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"set(int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"set(int, int)","u":"set(int,int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"set(int, int, int)","u":"set(int,int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"set(int, short)","u":"set(int,short)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.EntryIterator","l":"set(IntDoubleOrderedMap.MapEntry)","u":"set(squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.FastEntryIterator","l":"set(IntDoubleOrderedMap.MapEntry)","u":"set(squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"set(Integer)","u":"set(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeyIterator","l":"set(Integer)","u":"set(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"Arrangement.KeyIterator","l":"set(K)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeyIterator","l":"set(K)"},{"p":"squidpony.squidmath","c":"OrderedMap.FastEntryIterator","l":"set(OrderedMap.MapEntry)","u":"set(squidpony.squidmath.OrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"set(V)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setAngle(double)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"setAt(int, int)","u":"setAt(int,int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"setAt(int, int)","u":"setAt(int,int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"setAt(int, V)","u":"setAt(int,V)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setBlockingRequirement(int)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"setBlockingRequirement(int)"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"setBlockingRequirement(int)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"setBossRoomLocked(boolean)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setBucketScan(boolean)"},{"p":"squidpony.squidai","c":"AOE","l":"setCache(FOVCache)","u":"setCache(squidpony.squidgrid.FOVCache)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setCache(FOVCache)","u":"setCache(squidpony.squidgrid.FOVCache)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setCache(FOVCache)","u":"setCache(squidpony.squidgrid.FOVCache)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setCache(FOVCache)","u":"setCache(squidpony.squidgrid.FOVCache)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setCache(FOVCache)","u":"setCache(squidpony.squidgrid.FOVCache)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setCache(FOVCache)","u":"setCache(squidpony.squidgrid.FOVCache)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setCache(FOVCache)","u":"setCache(squidpony.squidgrid.FOVCache)"},{"p":"squidpony.squidai","c":"PointAOE","l":"setCache(FOVCache)","u":"setCache(squidpony.squidgrid.FOVCache)"},{"p":"squidpony","c":"LanguageCipher","l":"setCacheLevel(int)"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"setCacheLevel(int)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setCenter(Coord)","u":"setCenter(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setCenter(Coord)","u":"setCenter(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setCenter(Coord)","u":"setCenter(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"PointAOE","l":"setCenter(Coord)","u":"setCenter(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"setCenter(Coord)","u":"setCenter(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"setCentrality(double)"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"setColorCenter(IColorCenter<T>)","u":"setColorCenter(squidpony.IColorCenter)"},{"p":"squidpony.panel","c":"ICombinedPanel","l":"setColorCenter(IColorCenter<T>)","u":"setColorCenter(squidpony.IColorCenter)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"setColorCenter(IColorCenter<T>)","u":"setColorCenter(squidpony.IColorCenter)"},{"p":"squidpony.squidmath","c":"Region","l":"setCoords(Coord...)","u":"setCoords(squidpony.squidmath.Coord...)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setCost(Coord, double)","u":"setCost(squidpony.squidmath.Coord,double)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"setCost(Coord, double)","u":"setCost(squidpony.squidmath.Coord,double)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"setCost(int, int)","u":"setCost(int,int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setCost(int, int, double)","u":"setCost(int,int,double)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"setCost(int, int, double)","u":"setCost(int,int,double)"},{"p":"squidpony.panel","c":"ISquidPanel","l":"setDefaultForeground(T)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"setDungeon(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"setDungeon(char[][])"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"setDungeon(char[][])"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"setEdge(int, int)","u":"setEdge(int,int)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setEnd(Coord)","u":"setEnd(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setEnd(Coord)","u":"setEnd(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setEndCenter(Coord)","u":"setEndCenter(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"setEnvironment(int[][])"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setExpanding(boolean)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"setExpected(double)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"setFairness(double)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"setFilter(IFilter<T>)","u":"setFilter(squidpony.IFilter)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"setFixedRooms(boolean[][])"},{"p":"squidpony.squidgrid","c":"Spill","l":"setFresh(Coord)","u":"setFresh(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setFresh(Coord, double)","u":"setFresh(squidpony.squidmath.Coord,double)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"setFresh(Coord, double)","u":"setFresh(squidpony.squidmath.Coord,double)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"setFresh(int, Coord)","u":"setFresh(int,squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"setFresh(int, double)","u":"setFresh(int,double)"},{"p":"squidpony.squidgrid","c":"Spill","l":"setFresh(int, int)","u":"setFresh(int,int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setFresh(int, int, double)","u":"setFresh(int,int,double)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"setFresh(int, int, double)","u":"setFresh(int,int,double)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"setFresh(int, int, int)","u":"setFresh(int,int,int)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"setGenerateGoal(boolean)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setGoal(Coord)","u":"setGoal(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"setGoal(Coord)","u":"setGoal(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"setGoal(int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setGoal(int, int)","u":"setGoal(int,int)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"setGoal(int, int)","u":"setGoal(int,int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setGoals(Coord[])","u":"setGoals(squidpony.squidmath.Coord[])"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"setGoals(Coord[])","u":"setGoals(squidpony.squidmath.Coord[])"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setGoals(GreasedRegion)","u":"setGoals(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setGoals(Iterable<Coord>)","u":"setGoals(java.lang.Iterable)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"setGoals(Iterable<Coord>)","u":"setGoals(java.lang.Iterable)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setGradientCacheLimit(int)"},{"p":"squidpony.squidai","c":"ZOI","l":"setInfluences(Coord[][])","u":"setInfluences(squidpony.squidmath.Coord[][])"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"setIntensity(double)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"setItem(int)"},{"p":"squidpony.panel","c":"IColoredString.Bucket","l":"setLength(int)"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"setLength(int)"},{"p":"squidpony.panel","c":"IColoredString","l":"setLength(int)"},{"p":"squidpony.squidai","c":"AOE","l":"setLimitType(AimLimit)","u":"setLimitType(squidpony.squidai.AimLimit)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setLimitType(AimLimit)","u":"setLimitType(squidpony.squidai.AimLimit)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setLimitType(AimLimit)","u":"setLimitType(squidpony.squidai.AimLimit)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setLimitType(AimLimit)","u":"setLimitType(squidpony.squidai.AimLimit)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setLimitType(AimLimit)","u":"setLimitType(squidpony.squidai.AimLimit)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setLimitType(AimLimit)","u":"setLimitType(squidpony.squidai.AimLimit)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setLimitType(AimLimit)","u":"setLimitType(squidpony.squidai.AimLimit)"},{"p":"squidpony.squidai","c":"PointAOE","l":"setLimitType(AimLimit)","u":"setLimitType(squidpony.squidai.AimLimit)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"setLocation(CoordDouble)","u":"setLocation(squidpony.squidmath.CoordDouble)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"setLocation(double, double)","u":"setLocation(double,double)"},{"p":"squidpony.squidai","c":"AOE","l":"setMap(char[][])"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setMap(char[][])"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setMap(char[][])"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setMap(char[][])"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setMap(char[][])"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setMap(char[][])"},{"p":"squidpony.squidai","c":"LineAOE","l":"setMap(char[][])"},{"p":"squidpony.squidai","c":"PointAOE","l":"setMap(char[][])"},{"p":"squidpony.squidai","c":"Technique","l":"setMap(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"setMap(char[][])"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"setMaxKeys(int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"FreeformConstraints","l":"setMaxKeys(int)"},{"p":"squidpony.squidai","c":"AOE","l":"setMaxRange(int)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setMaxRange(int)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setMaxRange(int)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setMaxRange(int)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setMaxRange(int)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setMaxRange(int)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setMaxRange(int)"},{"p":"squidpony.squidai","c":"PointAOE","l":"setMaxRange(int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"setMaxSpaces(int)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"setMaxSwitches(int)"},{"p":"squidpony.squidai","c":"AOE","l":"setMetric(Radius)","u":"setMetric(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setMetric(Radius)","u":"setMetric(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setMetric(Radius)","u":"setMetric(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setMetric(Radius)","u":"setMetric(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setMetric(Radius)","u":"setMetric(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setMetric(Radius)","u":"setMetric(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setMetric(Radius)","u":"setMetric(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"PointAOE","l":"setMetric(Radius)","u":"setMetric(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"AOE","l":"setMinRange(int)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setMinRange(int)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setMinRange(int)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setMinRange(int)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setMinRange(int)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setMinRange(int)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setMinRange(int)"},{"p":"squidpony.squidai","c":"PointAOE","l":"setMinRange(int)"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"setOccupied(int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setOccupied(int, int)","u":"setOccupied(int,int)"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"setOccupied(int, int)","u":"setOccupied(int,int)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"setOccupied(int, int)","u":"setOccupied(int,int)"},{"p":"squidpony.squidai","c":"AOE","l":"setOrigin(Coord)","u":"setOrigin(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setOrigin(Coord)","u":"setOrigin(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setOrigin(Coord)","u":"setOrigin(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setOrigin(Coord)","u":"setOrigin(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setOrigin(Coord)","u":"setOrigin(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setOrigin(Coord)","u":"setOrigin(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setOrigin(Coord)","u":"setOrigin(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"PointAOE","l":"setOrigin(Coord)","u":"setOrigin(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"setParent(Room)","u":"setParent(squidpony.squidgrid.mapping.locks.Room)"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"setPassable(int, int, boolean)","u":"setPassable(int,int,boolean)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"setPhysical(int, int, double)","u":"setPhysical(int,int,double)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"setPrecond(Condition)","u":"setPrecond(squidpony.squidgrid.mapping.locks.Condition)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setRadius(double)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setRadius(int)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setRadius(int)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setRadius(int)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setRadius(int)"},{"p":"squidpony.squidgrid","c":"LOS","l":"setRadiusStrategy(Radius)","u":"setRadiusStrategy(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setRadiusType(Radius)","u":"setRadiusType(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setRadiusType(Radius)","u":"setRadiusType(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setRadiusType(Radius)","u":"setRadiusType(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setRadiusType(Radius)","u":"setRadiusType(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setRadiusType(Radius)","u":"setRadiusType(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setRadiusType(Radius)","u":"setRadiusType(squidpony.squidgrid.Radius)"},{"p":"squidpony.squidmath","c":"Dice","l":"setRandom(RNG)","u":"setRandom(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"setRandom(RNG)","u":"setRandom(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"setRandomness(RandomnessSource)","u":"setRandomness(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"setRandomness(RandomnessSource)","u":"setRandomness(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"setRandomness(RandomnessSource)","u":"setRandomness(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"RNG","l":"setRandomness(RandomnessSource)","u":"setRandomness(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"StatefulRNG","l":"setRandomness(RandomnessSource)","u":"setRandomness(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"Region","l":"setRaw(short[])"},{"p":"squidpony.squidai","c":"AOE","l":"setReach(Reach)","u":"setReach(squidpony.squidai.Reach)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"setReach(Reach)","u":"setReach(squidpony.squidai.Reach)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"setReach(Reach)","u":"setReach(squidpony.squidai.Reach)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"setReach(Reach)","u":"setReach(squidpony.squidai.Reach)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setReach(Reach)","u":"setReach(squidpony.squidai.Reach)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setReach(Reach)","u":"setReach(squidpony.squidai.Reach)"},{"p":"squidpony.squidai","c":"LineAOE","l":"setReach(Reach)","u":"setReach(squidpony.squidai.Reach)"},{"p":"squidpony.squidai","c":"PointAOE","l":"setReach(Reach)","u":"setReach(squidpony.squidai.Reach)"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"setRng(RNG)","u":"setRng(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"setSeed(long)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"setSeed(long)"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"setSeed(long)"},{"p":"squidpony.squidmath","c":"XorRNG","l":"setSeed(long)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"setSize(int)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"setSound(Coord, double)","u":"setSound(squidpony.squidmath.Coord,double)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"setSound(int, int, double)","u":"setSound(int,int,double)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"setSpan(double)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"setState(long)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"setState(long)"},{"p":"squidpony.squidmath","c":"LFSR","l":"setState(long)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"setState(long)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"setState(long)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"setState(long)"},{"p":"squidpony.squidmath","c":"StatefulRandomness","l":"setState(long)"},{"p":"squidpony.squidmath","c":"StatefulRNG","l":"setState(long)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"setState(long)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"setState(long, long)","u":"setState(long,long)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"setStep(int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Edge","l":"setSymbol(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntry","l":"setValue(double)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntry","l":"setValue(Double)","u":"setValue(java.lang.Double)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"setVolume(int)"},{"p":"squidpony.squidmath","c":"Coord","l":"setX(int)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"setX(int)"},{"p":"squidpony.squidmath","c":"Coord","l":"setY(int)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"setY(int)"},{"p":"squidpony.squidgrid","c":"FOV","l":"SHADOW"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"shallowLakeGlyph"},{"p":"squidpony","c":"LanguageCipher","l":"shift"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"shift"},{"p":"squidpony.squidai","c":"AOE","l":"shift(Coord)","u":"shift(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"BeamAOE","l":"shift(Coord)","u":"shift(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"BlastAOE","l":"shift(Coord)","u":"shift(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"BurstAOE","l":"shift(Coord)","u":"shift(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"CloudAOE","l":"shift(Coord)","u":"shift(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"ConeAOE","l":"shift(Coord)","u":"shift(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"LineAOE","l":"shift(Coord)","u":"shift(squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"PointAOE","l":"shift(Coord)","u":"shift(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"shiftKeys(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"shiftKeys(int)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"shiftKeys(int)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"shiftKeys(int)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"shiftKeys(int)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"shiftKeys(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"shiftKeys(int)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"shiftKeys(int)"},{"p":"squidpony","c":"MonsterGen","l":"SHOGGOTH"},{"p":"squidpony.squidgrid.mapping.styled","c":"Config","l":"short_side_length"},{"p":"squidpony.squidmath","c":"CrossHash","l":"shortHasher"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"shorts"},{"p":"squidpony.squidmath","c":"ShortSet","l":"ShortSet()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"ShortSet","l":"ShortSet(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"ShortSet(int, float)","u":"%3Cinit%3E(int,float)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"ShortSet(ShortSet)","u":"%3Cinit%3E(squidpony.squidmath.ShortSet)"},{"p":"squidpony.squidmath","c":"ShortSet.ShortSetIterator","l":"ShortSetIterator(ShortSet)","u":"%3Cinit%3E(squidpony.squidmath.ShortSet)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"ShortVLA()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"ShortVLA(boolean, int)","u":"%3Cinit%3E(boolean,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"ShortVLA(boolean, short[], int, int)","u":"%3Cinit%3E(boolean,short[],int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"ShortVLA(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"ShortVLA(int[])","u":"%3Cinit%3E(int[])"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"ShortVLA(short[])","u":"%3Cinit%3E(short[])"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"ShortVLA(ShortVLA)","u":"%3Cinit%3E(squidpony.squidmath.ShortVLA)"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"shouldAddNewLock(int, int, int)","u":"shouldAddNewLock(int,int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"show(char, char)","u":"show(char,char)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"show(int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"showMap(int[], int)","u":"showMap(int[],int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"shrink()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"shrink()"},{"p":"squidpony.squidmath","c":"ShortSet","l":"shrink(int)"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"shrink(Rectangle)","u":"shrink(squidpony.squidgrid.mapping.Rectangle)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"shuffle(Collection<T>)","u":"shuffle(java.util.Collection)"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"shuffle(Collection<T>)","u":"shuffle(java.util.Collection)"},{"p":"squidpony.squidmath","c":"EditRNG","l":"shuffle(Collection<T>)","u":"shuffle(java.util.Collection)"},{"p":"squidpony.squidmath","c":"RNG","l":"shuffle(Collection<T>)","u":"shuffle(java.util.Collection)"},{"p":"squidpony.squidmath","c":"RNG","l":"shuffle(Collection<T>, ArrayList<T>)","u":"shuffle(java.util.Collection,java.util.ArrayList)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"K2","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"K2V1","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"MultiKey","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"shuffle(RNG)","u":"shuffle(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"shuffle(T[])"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"shuffle(T[])"},{"p":"squidpony.squidmath","c":"EditRNG","l":"shuffle(T[])"},{"p":"squidpony.squidmath","c":"RNG","l":"shuffle(T[])"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"shuffle(T[], T[])","u":"shuffle(T[],T[])"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"shuffle(T[], T[])","u":"shuffle(T[],T[])"},{"p":"squidpony.squidmath","c":"EditRNG","l":"shuffle(T[], T[])","u":"shuffle(T[],T[])"},{"p":"squidpony.squidmath","c":"RNG","l":"shuffle(T[], T[])","u":"shuffle(T[],T[])"},{"p":"squidpony.squidmath","c":"RNG","l":"shuffleInPlace(T[])"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"sigma"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"sigma"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"SILENT"},{"p":"squidpony","c":"Thesaurus","l":"similarFinder"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"SIMPLE_CAVES"},{"p":"squidpony.tileset","c":"SimpleCaves2Wide","l":"SimpleCaves2Wide()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"simpleMaze"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"simpleRooms"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"simplex"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"SIMPLIFY_ARABIC"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"SIMPLIFY_NORSE"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"simplifyDungeon(char[][])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"singleRandom(RNG)","u":"singleRandom(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"singleRandom(RNG)","u":"singleRandom(squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"singleRandom(short[], RNG)","u":"singleRandom(short[],squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"singleSymbolDifference(Condition)","u":"singleSymbolDifference(squidpony.squidgrid.mapping.locks.Condition)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"size"},{"p":"squidpony.squidmath","c":"Arrangement","l":"size"},{"p":"squidpony.squidmath","c":"IntDoubleHeap","l":"size"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"size"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"size"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"size"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"size"},{"p":"squidpony.squidmath","c":"IntVLA","l":"size"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"size"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"size"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"size"},{"p":"squidpony.squidmath","c":"ShortSet","l":"size"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"size"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"SIZE_COMPARATOR"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"size()"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"size()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"size()"},{"p":"squidpony.squidgrid.mapping","c":"SectionMap","l":"size()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"size()"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"size()"},{"p":"squidpony.squidgrid.zone","c":"ListZone","l":"size()"},{"p":"squidpony.squidgrid.zone","c":"Zone","l":"size()"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"size()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"size()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueCollection","l":"size()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"size()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"size()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"size()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"size()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"size()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"size()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"size()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"size()"},{"p":"squidpony.squidmath","c":"K2","l":"size()"},{"p":"squidpony.squidmath","c":"K2V1","l":"size()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"size()"},{"p":"squidpony.squidmath","c":"MultiKey","l":"size()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"size()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"size()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"size()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueCollection","l":"size()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"size()"},{"p":"squidpony.squidmath","c":"Region","l":"size()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"size()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"size(Rectangle)","u":"size(squidpony.squidgrid.mapping.Rectangle)"},{"p":"squidpony.squidgrid.zone","c":"Zone.Skeleton","l":"Skeleton()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"Skeleton(IFilter<T>)","u":"%3Cinit%3E(squidpony.IFilter)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"skip"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"skip(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleIterator","l":"skip(int)"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"skip(int)"},{"p":"squidpony.squidmath","c":"PintRNG","l":"skip(int)"},{"p":"squidpony.squidmath","c":"LightRNG","l":"skip(long)"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"skip(long)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"skipTo(int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"slopeShadowFOV(int, int)","u":"slopeShadowFOV(int,int)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"slots"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"smallestF()"},{"p":"squidpony","c":"MonsterGen","l":"SNAKE"},{"p":"squidpony.squidgrid.mapping","c":"MetsaMapFactory","l":"SNOW_LEVEL"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"SobolQRNG(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"SobolQRNG(int, boolean)","u":"%3Cinit%3E(int,boolean)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"SOFT_TRIANGULAR"},{"p":"squidpony","c":"FakeLanguageGen","l":"SOMALI"},{"p":"squidpony.squidmath","c":"IntVLA","l":"sort()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"sort()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"sortedLOS(int, int, int, int)","u":"sortedLOS(int,int,int,int)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"SoundMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"SoundMap(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"SoundMap(char[][], char)","u":"%3Cinit%3E(char[][],char)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"SoundMap(char[][], SoundMap.Measurement)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.SoundMap.Measurement)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"SoundMap(double[][])","u":"%3Cinit%3E(double[][])"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"SoundMap(double[][], SoundMap.Measurement)","u":"%3Cinit%3E(double[][],squidpony.squidgrid.SoundMap.Measurement)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"SoundMap(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"sounds"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceConstraints","l":"SpaceConstraints(SpaceMap)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.locks.constraints.SpaceMap)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceConstraints","l":"spaceMap"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceMap","l":"SpaceMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceMap","l":"spaces"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"spare"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"spareTiles"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"SparseGreasedRegion()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"SparseGreasedRegion(GreasedRegion)","u":"%3Cinit%3E(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"SparseGreasedRegion(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"SparseGreasedRegion(SparseGreasedRegion)","u":"%3Cinit%3E(squidpony.squidmath.SparseGreasedRegion)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"SpatialMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"SpatialMap(Collection<Coord>, Collection<I>, Collection<E>)","u":"%3Cinit%3E(java.util.Collection,java.util.Collection,java.util.Collection)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"SpatialMap(Coord[], I[], E[])","u":"%3Cinit%3E(squidpony.squidmath.Coord[],I[],E[])"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"SpatialMap(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony.squidgrid","c":"SpatialMap.SpatialTriple","l":"SpatialTriple()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"SpatialMap.SpatialTriple","l":"SpatialTriple(Coord, I, E)","u":"%3Cinit%3E(squidpony.squidmath.Coord,I,E)"},{"p":"squidpony","c":"Messaging.NounTrait","l":"SPECIAL_CASE_GENDER"},{"p":"squidpony.squidgrid","c":"Radius","l":"SPHERE"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill(boolean[][])","u":"%3Cinit%3E(boolean[][])"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill(boolean[][], Spill.Measurement)","u":"%3Cinit%3E(boolean[][],squidpony.squidgrid.Spill.Measurement)"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill(char[][])","u":"%3Cinit%3E(char[][])"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill(char[][], char)","u":"%3Cinit%3E(char[][],char)"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill(char[][], Spill.Measurement)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Spill.Measurement)"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill(char[][], Spill.Measurement, LightRNG)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Spill.Measurement,squidpony.squidmath.LightRNG)"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill(char[][], Spill.Measurement, RNG)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Spill.Measurement,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"spill(GreasedRegion, int, RNG)","u":"spill(squidpony.squidmath.GreasedRegion,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill(LightRNG)","u":"%3Cinit%3E(squidpony.squidmath.LightRNG)"},{"p":"squidpony.squidgrid","c":"Spill","l":"Spill(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"Splash","l":"spill(RNG, char[][], Coord, int, int)","u":"spill(squidpony.squidmath.RNG,char[][],squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.squidgrid","c":"Splash","l":"spill(RNG, char[][], Coord, int, Set<Character>, int)","u":"spill(squidpony.squidmath.RNG,char[][],squidpony.squidmath.Coord,int,java.util.Set,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"spill(short[], short[], int, RNG)","u":"spill(short[],short[],int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"spillMap"},{"p":"squidpony.squidgrid","c":"Spill","l":"spillMap"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"SpillWorldMap()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"SpillWorldMap(int, int, String)","u":"%3Cinit%3E(int,int,java.lang.String)"},{"p":"squidpony.squidgrid","c":"Splash","l":"Splash()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid","c":"Splash","l":"Splash(Set<Character>)","u":"%3Cinit%3E(java.util.Set)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"split()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"split(int[])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"split(short[])"},{"p":"squidpony","c":"StringKit","l":"split(String, String)","u":"split(java.lang.String,java.lang.String)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"split8way()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"split8way(int[])"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"spreadPattern"},{"p":"squidpony.squidgrid","c":"Spill","l":"spreadPattern"},{"p":"squidpony.squidgrid","c":"LOS","l":"spreadReachable(char[][], int, int, int, int, Radius, int)","u":"spreadReachable(char[][],int,int,int,int,squidpony.squidgrid.Radius,int)"},{"p":"squidpony.squidgrid","c":"LOS","l":"spreadReachable(double[][], int, int, int, int, Radius, int)","u":"spreadReachable(double[][],int,int,int,int,squidpony.squidgrid.Radius,int)"},{"p":"squidpony.squidgrid","c":"Radius","l":"SQUARE"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"SQUARE_ROOMS_WITH_RANDOM_RECTS"},{"p":"squidpony.squidmath","c":"Coord3D","l":"squareDistance(Coord3D)","u":"squareDistance(squidpony.squidmath.Coord3D)"},{"p":"squidpony.tileset","c":"SquareRoomsWithRandomRects","l":"SquareRoomsWithRandomRects()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"SquidID","l":"SquidID()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"SquidID","l":"SquidID(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators","l":"SquidIterators()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"SquidTags","l":"SquidTags()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"FakeLanguageGen","l":"srng"},{"p":"squidpony","c":"MonsterGen","l":"srng"},{"p":"squidpony","c":"Messaging.NounTrait","l":"sssText()"},{"p":"squidpony","c":"Messaging.NounTrait","l":"ssText()"},{"p":"squidpony.squidmath","c":"SquidID","l":"stabilize()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"stairsDown"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"stairsDown"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"stairsUp"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"stairsUp"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"standardCost"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"standardCosts"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"standardCosts"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"STAR_WARS_STYLE_NAMES"},{"p":"squidpony.squidai","c":"PathfindingService.Request","l":"start"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"start"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"START"},{"p":"squidpony.squidgrid","c":"Spill","l":"start(Coord, int, Set<Coord>)","u":"start(squidpony.squidmath.Coord,int,java.util.Set)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"start(List<Coord>, int, Collection<Coord>)","u":"start(java.util.List,int,java.util.Collection)"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"start(OrderedMap<Coord, Double>, int, Collection<Coord>)","u":"start(squidpony.squidmath.OrderedMap,int,java.util.Collection)"},{"p":"squidpony.squidmath","c":"PackedIndex","l":"starts"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"startx"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"starty"},{"p":"squidpony.squidmath","c":"LFSR","l":"state"},{"p":"squidpony.squidmath","c":"LightRNG","l":"state"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"state"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"state"},{"p":"squidpony.squidmath","c":"PintRNG","l":"state"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"state"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"state"},{"p":"squidpony.squidmath","c":"StatefulRNG","l":"StatefulRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"StatefulRNG","l":"StatefulRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"StatefulRNG","l":"StatefulRNG(RandomnessSource)","u":"%3Cinit%3E(squidpony.squidmath.RandomnessSource)"},{"p":"squidpony.squidmath","c":"StatefulRNG","l":"StatefulRNG(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony","c":"Messaging.NounTrait","l":"sText()"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"store()"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"storeCellFOV(int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"storeCellLOS(int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"storeCellSymmetry(int)"},{"p":"squidpony.squidgrid","c":"BevelFOV","l":"storeMap(double[][])"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"Storm()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"Storm(CharSequence)","u":"%3Cinit%3E(java.lang.CharSequence)"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"Storm(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"CrossHash","l":"stringArrayHasher"},{"p":"squidpony.squidmath","c":"CrossHash","l":"stringHasher"},{"p":"squidpony","c":"StringKit","l":"StringKit()","u":"%3Cinit%3E()"},{"p":"squidpony.panel","c":"IMarkup.StringMarkup","l":"StringMarkup()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"ObText","l":"strings"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"STUTTER"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"subMap(int, int)","u":"subMap(int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"subMap(Integer, Integer)","u":"subMap(java.lang.Integer,java.lang.Integer)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"subMap(K, K)","u":"subMap(K,K)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"subMap(K, K)","u":"subMap(K,K)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"subSet(IntDoubleOrderedMap.MapEntry, IntDoubleOrderedMap.MapEntry)","u":"subSet(squidpony.squidmath.IntDoubleOrderedMap.MapEntry,squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"subSet(Integer, Integer)","u":"subSet(java.lang.Integer,java.lang.Integer)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"subSet(K, K)","u":"subSet(K,K)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"subSet(K, K)","u":"subSet(K,K)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"subSet(K, K)","u":"subSet(K,K)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"subSet(Map.Entry<K, V>, Map.Entry<K, V>)","u":"subSet(java.util.Map.Entry,java.util.Map.Entry)"},{"p":"squidpony.squidmath","c":"Coord","l":"subtract(Coord)","u":"subtract(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Coord","l":"subtract(double)"},{"p":"squidpony.squidmath","c":"Coord","l":"subtract(int)"},{"p":"squidpony.squidgrid","c":"BatchFOV.Combine","l":"SUM"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"sum()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"sum(GreasedRegion...)","u":"sum(squidpony.squidmath.GreasedRegion...)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"sum(List<GreasedRegion>)","u":"sum(java.util.List)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"sumMany(int, int, short[]...)","u":"sumMany(int,int,short[]...)"},{"p":"squidpony","c":"FakeLanguageGen","l":"summary"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"surface()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"surface(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"surface(short[], int, int, int)","u":"surface(short[],int,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"surface(short[], int, int, int, boolean)","u":"surface(short[],int,int,int,boolean)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"surface8way()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"surface8way(int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"surfaces(short[], int, int, int)","u":"surfaces(short[],int,int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"surfaces(short[], int, int, int, boolean)","u":"surfaces(short[],int,int,int,boolean)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"surfaceSeries(GreasedRegion[])","u":"surfaceSeries(squidpony.squidmath.GreasedRegion[])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"surfaceSeries(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"surfaceSeries8way(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"surfaceSeriesToLimit()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"surfaceSeriesToLimit8way()"},{"p":"squidpony","c":"FakeLanguageGen","l":"SWAHILI"},{"p":"squidpony.squidmath","c":"IntVLA","l":"swap(int, int)","u":"swap(int,int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"swap(int, int)","u":"swap(int,int)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"SWITCH"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"SWITCH_OFF"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"SWITCH_ON"},{"p":"squidpony.squidgrid.mapping.locks.generators","c":"LayoutGenerator","l":"switchLockChildRooms(Room, Condition.SwitchState)","u":"switchLockChildRooms(squidpony.squidgrid.mapping.locks.Room,squidpony.squidgrid.mapping.locks.Condition.SwitchState)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"switchState"},{"p":"squidpony","c":"FakeLanguageGen","l":"syllableEndFrequency"},{"p":"squidpony","c":"FakeLanguageGen","l":"syllableFrequencies"},{"p":"squidpony.squidgrid.mapping.locks","c":"Edge","l":"symbol"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"symbol()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"Symbol()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"SymmetryDungeonGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"SymmetryDungeonGenerator(int, int, RNG, List<Coord>)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,java.util.List)"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"SymmetryDungeonGenerator(int, int, RNG, OrderedMap<Coord, List<Coord>>)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,squidpony.squidmath.OrderedMap)"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"SymmetryDungeonGenerator(int, int, RNG, OrderedMap<Coord, List<Coord>>, float)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,squidpony.squidmath.OrderedMap,float)"},{"p":"squidpony.squidgrid","c":"FOVCache.SymmetryUnit","l":"SymmetryUnit(int)","u":"%3Cinit%3E(int)"},{"p":"squidpony","c":"LanguageCipher","l":"table"},{"p":"squidpony","c":"NaturalLanguageCipher","l":"table"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"table"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"tables()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"tailMap(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"tailMap(Integer)","u":"tailMap(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"tailMap(K)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"tailMap(K)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"tailSet(IntDoubleOrderedMap.MapEntry)","u":"tailSet(squidpony.squidmath.IntDoubleOrderedMap.MapEntry)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"tailSet(Integer)","u":"tailSet(java.lang.Integer)"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"tailSet(K)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"tailSet(K)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"tailSet(K)"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"tailSet(Map.Entry<K, V>)","u":"tailSet(java.util.Map.Entry)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"take(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"tallied"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"tallies"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"target"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"targetMap"},{"p":"squidpony","c":"Messaging","l":"targetPattern"},{"p":"squidpony.squidgrid.mapping.locks","c":"Edge","l":"targetRoomId"},{"p":"squidpony.squidai","c":"PathfindingService.Request","l":"targets"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"tau"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"tau"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"teamFOV(Map<Coord, Integer>)","u":"teamFOV(java.util.Map)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"teamFOVPacked(Map<Coord, Integer>)","u":"teamFOVPacked(java.util.Map)"},{"p":"squidpony.squidai","c":"Technique","l":"Technique()","u":"%3Cinit%3E()"},{"p":"squidpony.squidai","c":"Technique","l":"Technique(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidai","c":"Technique","l":"Technique(String, AOE)","u":"%3Cinit%3E(java.lang.String,squidpony.squidai.AOE)"},{"p":"squidpony.squidai","c":"Technique","l":"Technique(String, String, AOE)","u":"%3Cinit%3E(java.lang.String,java.lang.String,squidpony.squidai.AOE)"},{"p":"squidpony","c":"IColorCenter.Skeleton","l":"tempValue"},{"p":"squidpony","c":"Messaging.BeingSubstitution","l":"term"},{"p":"squidpony.squidai","c":"PathfindingService","l":"terrain"},{"p":"squidpony.panel","c":"IColoredString.Bucket","l":"text"},{"p":"squidpony","c":"Thesaurus","l":"Thesaurus()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"Thesaurus","l":"Thesaurus(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony","c":"Thesaurus","l":"Thesaurus(RNG)","u":"%3Cinit%3E(squidpony.squidmath.RNG)"},{"p":"squidpony","c":"Thesaurus","l":"Thesaurus(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"theta"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"theta"},{"p":"squidpony.squidgrid","c":"LOS","l":"THICK"},{"p":"squidpony.squidgrid","c":"MimicFill","l":"thickWalls"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ThinDungeonGenerator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ThinDungeonGenerator(int, int)","u":"%3Cinit%3E(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ThinDungeonGenerator(int, int, int, int, int)","u":"%3Cinit%3E(int,int,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ThinDungeonGenerator(int, int, RNG)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ThinDungeonGenerator(int, int, RNG, int, int, int)","u":"%3Cinit%3E(int,int,squidpony.squidmath.RNG,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"ThinDungeonGenerator(ThinDungeonGenerator)","u":"%3Cinit%3E(squidpony.squidgrid.mapping.ThinDungeonGenerator)"},{"p":"squidpony.squidgrid","c":"Adjacency.ThinWallAdjacency","l":"ThinWallAdjacency(int, int, DijkstraMap.Measurement)","u":"%3Cinit%3E(int,int,squidpony.squidai.DijkstraMap.Measurement)"},{"p":"squidpony.squidai","c":"Threat","l":"Threat(Coord, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int)"},{"p":"squidpony.squidai","c":"Threat","l":"Threat(Coord, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.squidai","c":"Threat","l":"Threat(Coord, int, int, Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int,squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"Threat","l":"Threat(Coord, int, int, Radius, AimLimit)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int,squidpony.squidgrid.Radius,squidpony.squidai.AimLimit)"},{"p":"squidpony.squidmath","c":"Elias.Context","l":"threshold"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"ThunderRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"ThunderRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"ThunderRNG(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"Tile()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"Tile(int, int, int, int, int, int, int, int, long...)","u":"%3Cinit%3E(int,int,int,int,int,int,int,int,long...)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"tileCount()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"tiles"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tileset","l":"Tileset()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"tilesX"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"tilesY"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"tmpCache"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"toArray()"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"toArray()"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"toArray()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"toArray()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"toArray()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"toArray()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"toArray()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"toArray()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"toArray()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"toArray()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"toArray()"},{"p":"squidpony.squidmath","c":"ShortSet.ShortSetIterator","l":"toArray()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"toArray()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"toArray(double[])"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"toArray(E[])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"toArray(int[])"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"toArray(T[])"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"toArray(T[])"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"toArray(T[])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"toArray(T[])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"toArray(T[])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"toArray(T[])"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"toArray(T[])"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"toArray(T[])"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"toArray(T[])"},{"p":"squidpony.squidmath","c":"Region","l":"toBooleanArray(int, int)","u":"toBooleanArray(int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"toBoxed()"},{"p":"squidpony.squidmath","c":"Region","l":"toCharArray(int, int, char, char)","u":"toCharArray(int,int,char,char)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"toChars()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"toChars(char, char)","u":"toChars(char,char)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"toDoubleArray()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"toDoubleArray(double[])"},{"p":"squidpony.squidmath","c":"Coord","l":"toGoTo(Coord)","u":"toGoTo(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"Direction","l":"toGoTo(Coord, Coord)","u":"toGoTo(squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"toGreasedRegion()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"toGreasedRegion(int, int, int, int)","u":"toGreasedRegion(int,int,int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"toIntArray()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"toIntArray()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"toIntArray(int[])"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"top()"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"topDoors"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"topLeft"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"toSparse()"},{"p":"squidpony","c":"FakeLanguageGen.Alteration","l":"toString()"},{"p":"squidpony","c":"FakeLanguageGen.Modifier","l":"toString()"},{"p":"squidpony","c":"FakeLanguageGen","l":"toString()"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"toString()"},{"p":"squidpony","c":"ObText","l":"toString()"},{"p":"squidpony.panel","c":"IColoredString.Bucket","l":"toString()"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"toString()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"toString()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition","l":"toString()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Room","l":"toString()"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"toString()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"toString()"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"toString()"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"toString()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"toString()"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"toString()"},{"p":"squidpony.squidgrid.zone","c":"ListZone","l":"toString()"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"toString()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"toString()"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"toString()"},{"p":"squidpony.squidmath","c":"ChaosRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"Coord","l":"toString()"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"toString()"},{"p":"squidpony.squidmath","c":"CoordOrderedSet","l":"toString()"},{"p":"squidpony.squidmath","c":"DeckRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"DharmaRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"EditRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"toString()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.DoubleCollection","l":"toString()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"toString()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntry","l":"toString()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.MapEntrySet","l":"toString()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"toString()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"toString()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"toString()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"toString()"},{"p":"squidpony.squidmath","c":"IsaacRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"JavaRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"LFSR","l":"toString()"},{"p":"squidpony.squidmath","c":"LightRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"toString()"},{"p":"squidpony.squidmath","c":"LongPeriodRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"MersenneTwister","l":"toString()"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"toString()"},{"p":"squidpony.squidmath","c":"OrderedMap.MapEntrySet","l":"toString()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"toString()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"toString()"},{"p":"squidpony.squidmath","c":"PermutedRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"PintRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"RandomBias","l":"toString()"},{"p":"squidpony.squidmath","c":"RegionMap","l":"toString()"},{"p":"squidpony.squidmath","c":"RNG","l":"toString()"},{"p":"squidpony.squidmath","c":"ShortSet","l":"toString()"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"toString()"},{"p":"squidpony.squidmath","c":"SobolQRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"toString()"},{"p":"squidpony.squidmath","c":"SquidID","l":"toString()"},{"p":"squidpony.squidmath","c":"StatefulRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"ThunderRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"toString()"},{"p":"squidpony.squidmath","c":"XorRNG","l":"toString()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Symbol","l":"toString(int)"},{"p":"squidpony.squidmath","c":"IntVLA","l":"toString(String)","u":"toString(java.lang.String)"},{"p":"squidpony.squidmath","c":"RegionMap","l":"toString(String)","u":"toString(java.lang.String)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"toString(String)","u":"toString(java.lang.String)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition.SwitchState","l":"toSymbol()"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"total"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"totalPoints"},{"p":"squidpony","c":"FakeLanguageGen","l":"totalSyllableFrequency"},{"p":"squidpony","c":"Messaging.BeingSubstitution","l":"trait"},{"p":"squidpony","c":"Messaging","l":"transform(CharSequence, String, Messaging.NounTrait)","u":"transform(java.lang.CharSequence,java.lang.String,squidpony.Messaging.NounTrait)"},{"p":"squidpony","c":"Messaging","l":"transform(CharSequence, String, Messaging.NounTrait, String, Messaging.NounTrait)","u":"transform(java.lang.CharSequence,java.lang.String,squidpony.Messaging.NounTrait,java.lang.String,squidpony.Messaging.NounTrait)"},{"p":"squidpony","c":"Messaging","l":"transform(CharSequence, String, Messaging.NounTrait, String, Messaging.NounTrait, String...)","u":"transform(java.lang.CharSequence,java.lang.String,squidpony.Messaging.NounTrait,java.lang.String,squidpony.Messaging.NounTrait,java.lang.String...)"},{"p":"squidpony.squidmath","c":"Coord","l":"translate(Direction)","u":"translate(squidpony.squidgrid.Direction)"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"translate(double, double)","u":"translate(double,double)"},{"p":"squidpony.squidmath","c":"Coord","l":"translate(int, int)","u":"translate(int,int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"translate(int, int)","u":"translate(int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"translate(short[], int, int, int, int)","u":"translate(short[],int,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"translateAStarToDijkstra(double[][])"},{"p":"squidpony.squidmath","c":"Coord","l":"translateCapped(int, int, int, int)","u":"translateCapped(int,int,int,int)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"translateDijkstraToAStar(double[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"transposeLines(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator.FillEffect","l":"TRAPS"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator.FillEffect","l":"TRAPS"},{"p":"squidpony.squidmath","c":"RandomBias","l":"TRIANGULAR"},{"p":"squidpony.squidmath","c":"Arrangement","l":"trim()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"trim()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"trim()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"trim()"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"trim()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"trim()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"trim()"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"trim()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"trim(int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"trim(int)"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"trim(int)"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"trim(int)"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"tripleIterator()"},{"p":"squidpony.squidgrid","c":"SpatialMap","l":"triples()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"truncate(int)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"truncate(int)"},{"p":"squidpony.squidmath","c":"RandomBias","l":"TRUNCATED"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"twoStepRule"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"type"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"unDoubleWidth(char[][])"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"union(PackedChunks)","u":"union(squidpony.squidmath.PackedChunks)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unionMany(short[]...)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unionPacked(short[], short[])","u":"unionPacked(short[],short[])"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"unit1_4"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"unit1_4f"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"unit1_8"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"unit1_8f"},{"p":"squidpony.squidmath","c":"PerlinNoise","l":"unit3_8"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"unit3_8f"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"unknown"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpack(short[], int, int)","u":"unpack(short[],int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpackChar(short[], char, char)","u":"unpackChar(short[],char,char)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpackChar(short[], int, int, char, char)","u":"unpackChar(short[],int,int,char,char)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpackDouble(short[], int, int)","u":"unpackDouble(short[],int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpackDoubleConical(short[], int, int, int, int, double, double)","u":"unpackDoubleConical(short[],int,int,int,int,double,double)"},{"p":"squidpony.squidgrid.zone","c":"CoordPackerZone","l":"unpacked"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpackGreasedRegion(short[], int, int)","u":"unpackGreasedRegion(short[],int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpackMultiByte(short[][], int, int)","u":"unpackMultiByte(short[][],int,int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpackMultiDouble(short[][], int, int, double[])","u":"unpackMultiDouble(short[][],int,int,double[])"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpackMultiDoublePartial(short[][], int, int, double[], int)","u":"unpackMultiDoublePartial(short[][],int,int,double[],int)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"unpackMultiDoublePartialConical(short[][], int, int, double[], int, int, int, double, double)","u":"unpackMultiDoublePartialConical(short[][],int,int,double[],int,int,int,double,double)"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"unsaidAdjectives"},{"p":"squidpony","c":"Messaging.NounTrait","l":"UNSPECIFIED_GENDER"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"UNTOUCHED"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"unwrap(Arrangement.KeyIterator, Object[])","u":"unwrap(squidpony.squidmath.Arrangement.KeyIterator,java.lang.Object[])"},{"p":"squidpony.squidmath","c":"Arrangement.KeySet","l":"unwrap(Arrangement.KeyIterator, Object[], int, int)","u":"unwrap(squidpony.squidmath.Arrangement.KeyIterator,java.lang.Object[],int,int)"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"unwrap(IntDoubleOrderedMap.KeyIterator, int[])","u":"unwrap(squidpony.squidmath.IntDoubleOrderedMap.KeyIterator,int[])"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap.KeySet","l":"unwrap(IntDoubleOrderedMap.KeyIterator, int[], int, int)","u":"unwrap(squidpony.squidmath.IntDoubleOrderedMap.KeyIterator,int[],int,int)"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"unwrap(OrderedMap.KeyIterator, Object[])","u":"unwrap(squidpony.squidmath.OrderedMap.KeyIterator,java.lang.Object[])"},{"p":"squidpony.squidmath","c":"OrderedMap.KeySet","l":"unwrap(OrderedMap.KeyIterator, Object[], int, int)","u":"unwrap(squidpony.squidmath.OrderedMap.KeyIterator,java.lang.Object[],int,int)"},{"p":"squidpony.squidgrid","c":"Direction","l":"UP"},{"p":"squidpony.squidgrid","c":"Direction","l":"UP_LEFT"},{"p":"squidpony.squidgrid","c":"Direction","l":"UP_RIGHT"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Up","l":"Up(int, int, int, int)","u":"%3Cinit%3E(int,int,int,int)"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"updateScan(Collection<Coord>)","u":"updateScan(java.util.Collection)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"upsilon"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"upsilon"},{"p":"squidpony","c":"Messaging","l":"userPattern"},{"p":"squidpony","c":"Messaging.NounTrait","l":"usiText()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"utility"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"utility"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"utility"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Utils","l":"Utils()","u":"%3Cinit%3E()"},{"p":"squidpony.squidgrid.mapping.styled","c":"Maximums","l":"v"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tileset","l":"v_tiles"},{"p":"squidpony.squidgrid","c":"Adjacency.BasicAdjacency","l":"validate(int)"},{"p":"squidpony.squidgrid","c":"Adjacency.RotationAdjacency","l":"validate(int)"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"validate(int)"},{"p":"squidpony.squidgrid.mapping","c":"MapModule","l":"validDoors"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"CountConstraints","l":"validRoomCoords(Coord)","u":"validRoomCoords(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"SpaceConstraints","l":"validRoomCoords(Coord)","u":"validRoomCoords(squidpony.squidmath.Coord)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"value"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"value"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"value"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"value"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"value"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"value"},{"p":"squidpony.squidmath","c":"Arrangement.ValueCollection","l":"ValueCollection()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueCollection","l":"ValueCollection()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"K2","l":"valueCount()"},{"p":"squidpony.squidmath","c":"K2V1","l":"valueCount()"},{"p":"squidpony.squidmath","c":"MultiKey","l":"valueCount()"},{"p":"squidpony.squidmath","c":"Arrangement.ValueIterator","l":"ValueIterator()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"OrderedMap.ValueIterator","l":"ValueIterator()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"Messaging.NounTrait","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.panel","c":"ICombinedPanel.What","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidai","c":"AimLimit","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidai","c":"DijkstraMap.Measurement","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid","c":"BatchFOV.Combine","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid","c":"Direction","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator.FillEffect","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition.SwitchState","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator.CarverType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator.FillEffect","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid","c":"Radius","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid","c":"SoundMap.Measurement","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidgrid","c":"Spill.Measurement","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidmath","c":"AStarSearch.SearchType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"values"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"values"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"values"},{"p":"squidpony","c":"Messaging.NounTrait","l":"values()"},{"p":"squidpony.panel","c":"ICombinedPanel.What","l":"values()"},{"p":"squidpony.squidai","c":"AimLimit","l":"values()"},{"p":"squidpony.squidai","c":"DijkstraMap.Measurement","l":"values()"},{"p":"squidpony.squidgrid","c":"BatchFOV.Combine","l":"values()"},{"p":"squidpony.squidgrid","c":"Direction","l":"values()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator.FillEffect","l":"values()"},{"p":"squidpony.squidgrid.mapping.locks","c":"Condition.SwitchState","l":"values()"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator.CarverType","l":"values()"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator.FillEffect","l":"values()"},{"p":"squidpony.squidgrid.mapping.styled","c":"TilesetType","l":"values()"},{"p":"squidpony.squidgrid","c":"Radius","l":"values()"},{"p":"squidpony.squidgrid","c":"SoundMap.Measurement","l":"values()"},{"p":"squidpony.squidgrid","c":"Spill.Measurement","l":"values()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"values()"},{"p":"squidpony.squidmath","c":"AStarSearch.SearchType","l":"values()"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"values()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"values()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"valuesAsArray()"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"valuesAsArray()"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"valuesAsArray()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"valuesAsIntVLA()"},{"p":"squidpony.squidmath","c":"Arrangement","l":"valuesAsList()"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"valuesAsList()"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"valuesAsList()"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"VanDerCorputQRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"VanDerCorputQRNG(int, long, boolean)","u":"%3Cinit%3E(int,long,boolean)"},{"p":"squidpony.squidmath","c":"VanDerCorputQRNG","l":"VanDerCorputQRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidai","c":"AreaUtils","l":"verifyLimit(AimLimit, Coord, Coord)","u":"verifyLimit(squidpony.squidai.AimLimit,squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidai","c":"AreaUtils","l":"verifyReach(Reach, Coord, Coord)","u":"verifyReach(squidpony.squidai.Reach,squidpony.squidmath.Coord,squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"VerticalUp(Coord, int, int)","u":"%3Cinit%3E(squidpony.squidmath.Coord,int,int)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"VerticalUp(int, int, int, int)","u":"%3Cinit%3E(int,int,int,int)"},{"p":"squidpony.squidmath","c":"Arrangement","l":"VERY_FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntDoubleOrderedMap","l":"VERY_FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntIntOrderedMap","l":"VERY_FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntObjectOrderedMap","l":"VERY_FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"IntOrderedSet","l":"VERY_FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"LongIntOrderedMap","l":"VERY_FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"OrderedMap","l":"VERY_FAST_LOAD_FACTOR"},{"p":"squidpony.squidmath","c":"OrderedSet","l":"VERY_FAST_LOAD_FACTOR"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"viableDoorways(boolean, char[][])","u":"viableDoorways(boolean,char[][])"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"viableDoorways(boolean, char[][], char[][], char[][])","u":"viableDoorways(boolean,char[][],char[][],char[][])"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"VIKING_STYLE_NAMES"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"visible"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"visibleCells(Coord)","u":"visibleCells(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"visiblePoints(Coord)","u":"visiblePoints(squidpony.squidmath.Coord)"},{"p":"squidpony.squidgrid","c":"Radius","l":"volume2D(double)"},{"p":"squidpony.squidgrid","c":"Radius","l":"volume3D(double)"},{"p":"squidpony","c":"FakeLanguageGen","l":"vowelEndFrequency"},{"p":"squidpony","c":"FakeLanguageGen","l":"vowelSplitFrequency"},{"p":"squidpony","c":"FakeLanguageGen","l":"vowelSplitters"},{"p":"squidpony","c":"FakeLanguageGen","l":"vowelStartFrequency"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"walkable"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"WALL"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"WALL"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"WALL"},{"p":"squidpony.squidgrid.mapping","c":"Terrain","l":"WALL"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"WALL"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"walled"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"wallMap"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"wallOff(int, int)","u":"wallOff(int,int)"},{"p":"squidpony.squidgrid.mapping","c":"SymmetryDungeonGenerator","l":"wallOff(int, int)","u":"wallOff(int,int)"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"walls"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"walls"},{"p":"squidpony.squidgrid.mapping","c":"ThinDungeonGenerator","l":"wallShapes"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"wallWrap()"},{"p":"squidpony.squidgrid.mapping","c":"DungeonUtility","l":"wallWrap(char[][])"},{"p":"squidpony.squidgrid.mapping.styled","c":"DungeonBoneGen","l":"wallWrap(char[][])"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator.FillEffect","l":"WATER"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator.FillEffect","l":"WATER"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"waveFOV(int, int)","u":"waveFOV(int,int)"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"waves"},{"p":"squidpony.squidai","c":"WaypointPathfinder","l":"WaypointPathfinder(char[][], DijkstraMap, RNG)","u":"%3Cinit%3E(char[][],squidpony.squidai.DijkstraMap,squidpony.squidmath.RNG)"},{"p":"squidpony.squidai","c":"WaypointPathfinder","l":"WaypointPathfinder(char[][], Radius, RNG)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Radius,squidpony.squidmath.RNG)"},{"p":"squidpony.squidai","c":"WaypointPathfinder","l":"WaypointPathfinder(char[][], Radius, RNG, boolean)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Radius,squidpony.squidmath.RNG,boolean)"},{"p":"squidpony.squidai","c":"WaypointPathfinder","l":"WaypointPathfinder(char[][], Radius, RNG, int)","u":"%3Cinit%3E(char[][],squidpony.squidgrid.Radius,squidpony.squidmath.RNG,int)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"weight(ProbabilityTable<? extends T>)","u":"weight(squidpony.squidmath.ProbabilityTable)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"weight(T)"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"WeightedLetterNamegen(String[])","u":"%3Cinit%3E(java.lang.String[])"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"WeightedLetterNamegen(String[], int)","u":"%3Cinit%3E(java.lang.String[],int)"},{"p":"squidpony","c":"WeightedLetterNamegen","l":"WeightedLetterNamegen(String[], int, RNG)","u":"%3Cinit%3E(java.lang.String[],int,squidpony.squidmath.RNG)"},{"p":"squidpony.squidmath","c":"ProbabilityTable","l":"weights"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"whichContain(int, int, Collection<GreasedRegion>)","u":"whichContain(int,int,java.util.Collection)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"whichContain(int, int, GreasedRegion...)","u":"whichContain(int,int,squidpony.squidmath.GreasedRegion...)"},{"p":"squidpony.squidmath","c":"WhirlingNoise","l":"WhirlingNoise()","u":"%3Cinit%3E()"},{"p":"squidpony","c":"MonsterGen.Chimera","l":"wholeAdjectives"},{"p":"squidpony.panel","c":"ICombinedPanel.Impl","l":"width"},{"p":"squidpony.squidai","c":"CustomDijkstraMap","l":"width"},{"p":"squidpony.squidai","c":"DijkstraMap","l":"width"},{"p":"squidpony.squidai","c":"FlatDijkstraMap","l":"width"},{"p":"squidpony.squidai","c":"HierarchicalPathfinder","l":"width"},{"p":"squidpony.squidai","c":"PathfindingService","l":"width"},{"p":"squidpony.squidgrid","c":"Adjacency","l":"width"},{"p":"squidpony.squidgrid","c":"BatchFOV","l":"width"},{"p":"squidpony.squidgrid","c":"FOVCache","l":"width"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"width"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.BottomLeftToTopRight","l":"width"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"width"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"width"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"width"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.VerticalUp","l":"width"},{"p":"squidpony.squidgrid","c":"LOSIndex","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"DenseRoomMapGenerator","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"DungeonGenerator","l":"width"},{"p":"squidpony.squidgrid.mapping.locks.util","c":"Rect2I","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"MixedGenerator","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"ModularMapGenerator","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"OrganicMapGenerator","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"PacMazeGenerator","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"Rectangle.Impl","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"RoomFinder","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"SectionDungeonGenerator","l":"width"},{"p":"squidpony.squidgrid.mapping","c":"SpillWorldMap","l":"width"},{"p":"squidpony.squidgrid.mapping.styled","c":"Tile","l":"width"},{"p":"squidpony.squidgrid","c":"MultiSpill","l":"width"},{"p":"squidpony.squidgrid","c":"SoundMap","l":"width"},{"p":"squidpony.squidgrid","c":"Spill","l":"width"},{"p":"squidpony.squidmath","c":"AStarSearch","l":"width"},{"p":"squidpony.squidmath","c":"Elias.Context","l":"width"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"width"},{"p":"squidpony.squidmath","c":"PackedChunks","l":"width"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"width"},{"p":"squidpony.squidmath","c":"CrossHash.Wisp","l":"Wisp()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"IntVLA","l":"with(int...)"},{"p":"squidpony.squidmath","c":"ShortSet","l":"with(short...)"},{"p":"squidpony.squidmath","c":"ShortVLA","l":"with(short...)"},{"p":"squidpony","c":"FakeLanguageGen","l":"word(boolean)"},{"p":"squidpony","c":"FakeLanguageGen","l":"word(RNG, boolean)","u":"word(squidpony.squidmath.RNG,boolean)"},{"p":"squidpony","c":"FakeLanguageGen","l":"word(RNG, boolean, int)","u":"word(squidpony.squidmath.RNG,boolean,int)"},{"p":"squidpony","c":"FakeLanguageGen","l":"word(RNG, boolean, int, Pattern[])","u":"word(squidpony.squidmath.RNG,boolean,int,regexodus.Pattern[])"},{"p":"squidpony","c":"FakeLanguageGen","l":"word(StatefulRNG, boolean, int, long...)","u":"word(squidpony.squidmath.StatefulRNG,boolean,int,long...)"},{"p":"squidpony","c":"Thesaurus","l":"wordMatch"},{"p":"squidpony.panel","c":"IColoredString.Impl","l":"wrap(int)"},{"p":"squidpony.panel","c":"IColoredString","l":"wrap(int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"writeInts(int[][], int)","u":"writeInts(int[][],int)"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"writeIntsInto(int[][], int)","u":"writeIntsInto(int[][],int)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"x"},{"p":"squidpony.squidmath","c":"Coord","l":"x"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"x"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"xi"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"xi"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"xmax"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"xmin"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"xor(GreasedRegion)","u":"xor(squidpony.squidmath.GreasedRegion)"},{"p":"squidpony.squidmath","c":"SparseGreasedRegion","l":"xor(SparseGreasedRegion)","u":"xor(squidpony.squidmath.SparseGreasedRegion)"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"XoRoRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"XoRoRNG","l":"XoRoRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"xorPacked(short[], short[])","u":"xorPacked(short[],short[])"},{"p":"squidpony.squidmath","c":"XorRNG","l":"XorRNG()","u":"%3Cinit%3E()"},{"p":"squidpony.squidmath","c":"XorRNG","l":"XorRNG(long)","u":"%3Cinit%3E(long)"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"xstart"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"xstart"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"xstart"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"xsum"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.Linear","l":"y"},{"p":"squidpony.squidmath","c":"Coord","l":"y"},{"p":"squidpony.squidmath","c":"CoordDouble","l":"y"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"yEndMask"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"ymax"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"ymin"},{"p":"squidpony.squidmath","c":"GreasedRegion","l":"ySections"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.AroundCounterClockWise","l":"ystart"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.CenteredSquare","l":"ystart"},{"p":"squidpony.squidgrid.iterator","c":"SquidIterators.RectangleFromBottomLeftToTopRight","l":"ystart"},{"p":"squidpony.squidgrid.mapping.locks.constraints","c":"ColorMap","l":"ysum"},{"p":"squidpony.squidmath","c":"Coord3D","l":"z"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"zDecode(short)"},{"p":"squidpony.squidmath","c":"CoordPacker","l":"zEncode(short, short)","u":"zEncode(short,short)"},{"p":"squidpony.squidmath","c":"CrossHash.Chariot","l":"zeta"},{"p":"squidpony.squidmath","c":"CrossHash.Storm","l":"zeta"},{"p":"squidpony.squidai","c":"ZOI","l":"ZOI(Coord[], char[][], Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord[],char[][],squidpony.squidgrid.Radius)"},{"p":"squidpony.squidai","c":"ZOI","l":"ZOI(Coord[][], char[][], Radius)","u":"%3Cinit%3E(squidpony.squidmath.Coord[][],char[][],squidpony.squidgrid.Radius)"}];updateSearchResults();
\ No newline at end of file
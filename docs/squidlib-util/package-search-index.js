@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"squidpony"},{"l":"squidpony.annotation"},{"l":"squidpony.panel"},{"l":"squidpony.squidai"},{"l":"squidpony.squidgrid"},{"l":"squidpony.squidgrid.iterator"},{"l":"squidpony.squidgrid.mapping"},{"l":"squidpony.squidgrid.mapping.locks"},{"l":"squidpony.squidgrid.mapping.locks.constraints"},{"l":"squidpony.squidgrid.mapping.locks.generators"},{"l":"squidpony.squidgrid.mapping.locks.util"},{"l":"squidpony.squidgrid.mapping.styled"},{"l":"squidpony.squidgrid.zone"},{"l":"squidpony.squidmath"},{"l":"squidpony.tileset"}];updateSearchResults();
\ No newline at end of file